@@ -0,0 +1,31 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH's command line with the GC profiler always on, so every result comes
+ * with its allocation rate (gc.alloc.rate.norm = bytes per operation).
+ *
+ * Usage: java -jar benchmarks.jar [JMH options], e.g.
+ *   java -jar benchmarks/target/benchmarks.jar TableBenchmark.findHit -p table=linear,chain -p size=1000000
+ */
+public class Main {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+                || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        boolean hasGc = cli.getProfilers().stream()
+                .anyMatch(p -> p.getKlass().equals("gc") || p.getKlass().equals(GCProfiler.class.getName()));
+        if (!hasGc) options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,187 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import datastructures.HashFunctionRegistry;
+import datastructures.HashTable;
+import datastructures.ProbeType;
+import datastructures.ProbingHashTable;
+import datastructures.SeparateChainingHashTable;
+import datastructures.SimpleHashTable;
+
+/**
+ * Insert, hit, miss and delete cost of the tables, per
+ * (table, hash, load factor, size, key distribution).
+ *
+ * Every table is sized up front so that {@code size} keys fill it to
+ * {@code loadFactor} and no operation in a measured loop triggers a resize.
+ * Keys are boxed before measurement, so the GC profiler's alloc rate is
+ * what the table itself allocates (chain nodes, Integer wrappers it makes).
+ *
+ *  • findHit / findMiss run on a table filled once per trial and cycle
+ *    through {@link #LOOKUPS} present / absent keys
+ *  • insert / delete each time a batch of {@link #BATCH} keys; the batch is
+ *    removed again / put back before every invocation, outside the timing
+ *    (at size 1000 the batch is the whole table)
+ *
+ * Throughput is in ops/µs and SampleTime gives the latency percentiles; with
+ * insert / delete a sample is one batch divided by its size.
+ *
+ * {@code simple} ignores the hash parameter (it always uses key % m) and its
+ * misses scan the whole table, so keep it to the small sizes.  Sizes from
+ * 10^7 need several GB of heap: pass {@code -jvmArgsAppend -Xmx16g}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableBenchmark {
+
+    /** Keys timed per insert / delete invocation. */
+    public static final int BATCH   = 1_000;
+    /** Present and absent keys cycled through by the lookups (a power of two). */
+    public static final int LOOKUPS = 1 << 16;
+
+    @State(Scope.Thread)
+    public static class Params {
+        @Param({"chain", "linear", "quadratic", "double", "robinhood", "simple"})
+        public String table;
+
+        @Param({"division", "multiplication", "fibonacci", "custom", "random", "multiplyshift"})
+        public String hash;
+
+        @Param({"0.5", "0.75"})
+        public double loadFactor;
+
+        @Param({"1000", "100000", "10000000", "100000000"})
+        public int size;
+
+        @Param({"uniform", "sequential", "clustered"})
+        public String keys;
+
+        /** Empty table sized for {@code size} keys at {@code loadFactor}. */
+        HashTable newTable() {
+            return switch (table) {
+                case "chain"     -> new SeparateChainingHashTable(
+                                        (int) Math.ceil(size / loadFactor), HashFunctionRegistry.forName(hash));
+                case "linear"    -> probing(ProbeType.LINEAR);
+                case "quadratic" -> probing(ProbeType.QUADRATIC);
+                case "double"    -> probing(ProbeType.DOUBLE_HASHING);
+                case "robinhood" -> probing(ProbeType.ROBIN_HOOD);
+                case "simple"    -> new SimpleHashTable((int) Math.ceil(size / loadFactor) + 1);
+                default -> throw new IllegalArgumentException("unknown table: " + table);
+            };
+        }
+
+        private HashTable probing(ProbeType type) {
+            return ProbingHashTable.withExpectedKeys(size, loadFactor, type, HashFunctionRegistry.forName(hash));
+        }
+
+        /** The i‑th key of the distribution; i in [0, size) are stored, i ≥ size are not. */
+        int key(int i) {
+            return switch (keys) {
+                case "sequential" -> i;
+                case "clustered"  -> ((i >>> 6) * 0x9E3779B9) << 6 | (i & 63);   // runs of 64 consecutive keys
+                default           -> fmix32(i);
+            };
+        }
+
+        /** MurmurHash3 finaliser: a bijection, so distinct i give distinct keys. */
+        private static int fmix32(int h) {
+            h ^= h >>> 16;  h *= 0x85EBCA6B;
+            h ^= h >>> 13;  h *= 0xC2B2AE35;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /** Table holding all {@code size} keys, plus boxed present and absent keys to look up. */
+    @State(Scope.Thread)
+    public static class Filled {
+        HashTable table;
+        Integer[] hits, misses;
+        int next;
+
+        @Setup(Level.Trial)
+        public void fill(Params p) {
+            table = p.newTable();
+            for (int i = 0; i < p.size; i++) table.insert(p.key(i));
+            hits   = new Integer[LOOKUPS];
+            misses = new Integer[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                hits[i]   = p.key((int) ((long) i * p.size / LOOKUPS));
+                misses[i] = p.key(p.size + i);
+            }
+        }
+    }
+
+    /** Table holding all but the last {@link #BATCH} keys, which are the batch. */
+    public static class Churn {
+        HashTable table;
+        Integer[] batch;
+
+        @Setup(Level.Trial)
+        public void fill(Params p) {
+            int n = Math.max(0, p.size - BATCH);
+            table = p.newTable();
+            for (int i = 0; i < n; i++) table.insert(p.key(i));
+            batch = new Integer[BATCH];
+            for (int i = 0; i < BATCH; i++) batch[i] = p.key(n + i);
+        }
+    }
+
+    /** The batch is taken out again before every insert invocation. */
+    @State(Scope.Thread)
+    public static class Inserts extends Churn {
+        @Setup(Level.Invocation)
+        public void takeOut() {
+            for (Integer k : batch) table.delete(k);
+        }
+    }
+
+    /** The batch is put back before every delete invocation. */
+    @State(Scope.Thread)
+    public static class Deletes extends Churn {
+        @Setup(Level.Invocation)
+        public void putBack() {
+            for (Integer k : batch) table.insert(k);
+        }
+    }
+
+    @Benchmark
+    public Integer findHit(Filled s) {
+        return s.table.find(s.hits[s.next++ & (LOOKUPS - 1)]);
+    }
+
+    @Benchmark
+    public Integer findMiss(Filled s) {
+        return s.table.find(s.misses[s.next++ & (LOOKUPS - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert(Inserts s, Blackhole bh) {
+        for (Integer k : s.batch) bh.consume(s.table.insert(k));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void delete(Deletes s, Blackhole bh) {
+        for (Integer k : s.batch) bh.consume(s.table.delete(k));
+    }
+}
@@ -0,0 +1,81 @@
+package applications;
+
+import java.util.Random;
+
+import datastructures.HashTable;
+import datastructures.IntProbingHashTable;
+import datastructures.ProbeType;
+import datastructures.ProbingHashTable;
+
+/**
+ * Batch vs one‑at‑a‑time lookups on tables larger than the last‑level cache.
+ *
+ * Each table is built with {@code keys} random ints, then the same stream of
+ * lookups (half hits, half misses) runs once through {@code find} per key and
+ * once through {@code findAll} in batches.  Every variant gets a warm‑up pass
+ * before the timed one.
+ *
+ * Usage: BatchLookupBenchmark [keys=8000000] [lookups=20000000] [batch=1024] [hashCode=c]
+ *
+ * Prints a TSV: Table\tMode\tTime(ms)\tMlookups/s\tHits
+ */
+public class BatchLookupBenchmark {
+
+    public static void main(String[] args) {
+        int  n       = args.length > 0 ? Integer.parseInt(args[0]) : 8_000_000;
+        int  lookups = args.length > 1 ? Integer.parseInt(args[1]) : 20_000_000;
+        int  batch   = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+        char code    = args.length > 3 ? args[3].charAt(0) : 'c';
+
+        Random rnd   = new Random(42);
+        int[] keys   = rnd.ints(n).toArray();
+        int[] probes = new int[lookups];
+        for (int i = 0; i < lookups; i++)
+            probes[i] = (i & 1) == 0 ? keys[rnd.nextInt(n)] : rnd.nextInt();   // ~50 % hits
+
+        System.out.printf("Table\tMode\tTime(ms)\tMlookups/s\tHits%n");
+        for (String style : new String[]{"int-linear", "int-double", "linear", "double"}) {
+            HashTable t = create(style, n, code);
+            t.insertAll(keys);
+            for (String mode : new String[]{"single", "batch"}) {
+                run(t, mode, probes, batch);                           // warm‑up
+                long t0   = System.nanoTime();
+                long hits = run(t, mode, probes, batch);
+                long ns   = System.nanoTime() - t0;
+                System.out.printf("%s\t%s\t%.1f\t%.2f\t%d%n",
+                        style, mode, ns / 1e6, lookups * 1e3 / ns, hits);
+            }
+        }
+    }
+
+    private static HashTable create(String style, int n, char code) {
+        return switch (style) {
+            case "int-linear" -> IntProbingHashTable.withExpectedKeys(n, ProbeType.LINEAR, code);
+            case "int-double" -> IntProbingHashTable.withExpectedKeys(n, ProbeType.DOUBLE_HASHING, code);
+            case "double"     -> ProbingHashTable.withExpectedKeys(n, ProbeType.DOUBLE_HASHING, code);
+            default           -> ProbingHashTable.withExpectedKeys(n, ProbeType.LINEAR, code);
+        };
+    }
+
+    /** Runs every lookup once; returns the hit count so the work cannot be optimised away. */
+    private static long run(HashTable t, String mode, int[] probes, int batch) {
+        long hits = 0;
+        if (mode.equals("single")) {
+            for (int k : probes) if (t.find(k) != null) hits++;
+            return hits;
+        }
+        int[]     chunk = new int[batch];
+        boolean[] out   = new boolean[batch];
+        for (int from = 0; from < probes.length; from += batch) {
+            int len = Math.min(batch, probes.length - from);
+            if (len < batch) {
+                chunk = new int[len];
+                out   = new boolean[len];
+            }
+            System.arraycopy(probes, from, chunk, 0, len);
+            t.findAll(chunk, out);
+            for (int i = 0; i < len; i++) if (out[i]) hits++;
+        }
+        return hits;
+    }
+}
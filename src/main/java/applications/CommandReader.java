@@ -0,0 +1,158 @@
+package applications;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a command file ("insert 5", "delete 11", "search 3", "print", one
+ * per line) into a {@link Handler} as it is read.
+ *
+ * The file is memory‑mapped {@link #WINDOW} bytes at a time and tokenized in
+ * place: the command word is compared byte by byte and the key is parsed
+ * straight from its digits, so a well‑formed line creates no objects and the
+ * file's size does not matter.  Only lines that are reported back as invalid
+ * are turned into Strings.  Blank lines are skipped; anything after the key
+ * is ignored, as it always was.
+ */
+public final class CommandReader {
+
+    /** Bytes mapped at once; a line may not be longer than this. */
+    public static final int WINDOW = 64 << 20;
+
+    private static final byte[] INSERT = ascii("insert");
+    private static final byte[] DELETE = ascii("delete");
+    private static final byte[] SEARCH = ascii("search");
+    private static final byte[] PRINT  = ascii("print");
+
+    /** Receives the commands in file order. */
+    public interface Handler {
+        void insert(int key);
+        void delete(int key);
+        void search(int key);
+        void print();
+        /** A line that is not a valid command, with the message the Driver has always printed for it. */
+        void invalid(String message);
+        /** Called once after the last command. */
+        default void end() { }
+    }
+
+    private CommandReader() { }
+
+    /** Reads all of {@code file} into {@code handler}, ending it even if reading fails; returns the number of lines. */
+    public static long read(Path file, Handler handler) throws IOException {
+        long lines = 0;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            long pos  = 0;
+            while (pos < size) {
+                int len = (int) Math.min(WINDOW, size - pos);
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+                boolean last = pos + len == size;
+                int start = 0;
+                while (start < len) {
+                    int end = start;
+                    while (end < len && buf.get(end) != '\n') end++;
+                    if (end == len && !last) break;            // line runs past the window: remap from its start
+                    parseLine(buf, start, end, handler);
+                    lines++;
+                    start = end + 1;
+                }
+                if (start == 0 && !last)
+                    throw new IOException("line longer than " + WINDOW + " bytes at offset " + pos);
+                pos += Math.min(start, len);
+            }
+        } catch (IOException e) {              // bad input: still hand over what came before it
+            try {
+                handler.end();
+            } catch (RuntimeException | Error suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        handler.end();
+        return lines;
+    }
+
+    private static void parseLine(MappedByteBuffer buf, int from, int to, Handler handler) {
+        int cs = skipSpace(buf, from, to);
+        if (cs == to) return;                                      // blank line
+        int ce = skipToken(buf, cs, to);
+        if (matches(buf, cs, ce, PRINT)) {
+            handler.print();
+            return;
+        }
+        boolean insert = matches(buf, cs, ce, INSERT);
+        boolean delete = !insert && matches(buf, cs, ce, DELETE);
+        boolean search = !insert && !delete && matches(buf, cs, ce, SEARCH);
+        if (!insert && !delete && !search) {
+            handler.invalid("Unknown command: " + text(buf, cs, ce));
+            return;
+        }
+        int ks = skipSpace(buf, ce, to);
+        int ke = skipToken(buf, ks, to);
+        if (ks == ke) {
+            handler.invalid("Missing key for command: " + text(buf, cs, ce));
+            return;
+        }
+        long key = parseInt(buf, ks, ke);
+        if (key == Long.MIN_VALUE) {
+            handler.invalid("Invalid number format for command: " + text(buf, cs, ce) + " " + text(buf, ks, ke));
+            return;
+        }
+        if (insert)      handler.insert((int) key);
+        else if (delete) handler.delete((int) key);
+        else             handler.search((int) key);
+    }
+
+    /** Decimal int in [from, to) with an optional sign, or Long.MIN_VALUE if it is not one. */
+    static long parseInt(MappedByteBuffer buf, int from, int to) {
+        boolean negative = buf.get(from) == '-';
+        int i = (negative || buf.get(from) == '+') ? from + 1 : from;
+        if (i == to) return Long.MIN_VALUE;
+        long value = 0;
+        for (; i < to; i++) {
+            int d = buf.get(i) - '0';
+            if (d < 0 || d > 9) return Long.MIN_VALUE;
+            value = value * 10 + d;
+            if (value > (long) Integer.MAX_VALUE + 1) return Long.MIN_VALUE;
+        }
+        if (negative) value = -value;
+        return value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private static int skipSpace(MappedByteBuffer buf, int i, int to) {
+        while (i < to && isSpace(buf.get(i))) i++;
+        return i;
+    }
+
+    private static int skipToken(MappedByteBuffer buf, int i, int to) {
+        while (i < to && !isSpace(buf.get(i))) i++;
+        return i;
+    }
+
+    private static boolean matches(MappedByteBuffer buf, int from, int to, byte[] word) {
+        if (to - from != word.length) return false;
+        for (int i = 0; i < word.length; i++)
+            if (buf.get(from + i) != word[i]) return false;
+        return true;
+    }
+
+    /** Only for error messages. */
+    private static String text(MappedByteBuffer buf, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buf.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,150 @@
+package applications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import datastructures.ConcurrentProbingHashTable;
+import datastructures.HashTable;
+import datastructures.ProbeType;
+import datastructures.ProbingHashTable;
+
+/**
+ * Multi‑threaded throughput: {@link ConcurrentProbingHashTable} vs a plain
+ * {@link ProbingHashTable} behind one global lock (what callers do today).
+ *
+ * Both tables are pre‑filled with half of a fixed pool of random keys, then
+ * 1, 2, 4 … N threads run a mixed workload for a fixed time: 90 % find,
+ * 5 % insert, 5 % delete, each on a key drawn uniformly from the pool, so the
+ * live size stays roughly constant.  Each thread count is run once as warm‑up
+ * and once measured.
+ *
+ * A resize of the concurrent table holds every writer at its gate for the
+ * whole O(m) copy, so the concurrent rows also report the resizes that fell
+ * inside the measured run (tombstone purges, since the size stays flat), their
+ * mean pause, the longest pause of the table's life (pre‑fill growth
+ * included) and the share of the run writers spent paused.
+ *
+ * Usage: ConcurrentThroughputBenchmark [maxThreads=#cores] [poolSize=1000000]
+ *                                      [millis=2000] [hashCode=c]
+ *
+ * Prints a TSV: Table\tThreads\tOps\tMops/s\tResizes\tMeanPause ms\tMaxPause ms\tPaused %
+ * (the pause columns are "-" for the locked table).
+ */
+public class ConcurrentThroughputBenchmark {
+
+    private static final int FIND_PERCENT   = 90;
+    private static final int INSERT_PERCENT = 5;        // the rest are deletes
+
+    public static void main(String[] args) throws InterruptedException {
+        int  maxThreads = args.length > 0 ? Integer.parseInt(args[0])
+                                          : Runtime.getRuntime().availableProcessors();
+        int  keys       = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        long millis     = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+        char code       = args.length > 3 ? args[3].charAt(0) : 'c';
+
+        int[] pool = new Random(42).ints(keys).toArray();
+
+        System.out.printf("Table\tThreads\tOps\tMops/s\tResizes\tMeanPause ms\tMaxPause ms\tPaused %%%n");
+        for (int threads = 1; threads <= maxThreads; threads = next(threads, maxThreads)) {
+            for (String style : new String[]{"locked", "concurrent"}) {
+                run(create(style, pool, code), threads, pool, millis);      // warm‑up
+                HashTable t = create(style, pool, code);
+                long[] before = pauses(t);                                  // the pre‑fill resized too
+                long ops = run(t, threads, pool, millis);
+                long[] after  = pauses(t);
+                System.out.printf("%s\t%d\t%d\t%.2f\t%s%n",
+                        style, threads, ops, ops / (millis * 1000.0), pauseColumns(before, after, millis));
+            }
+        }
+    }
+
+    /** {resizes, total pause ns, max pause ns} so far, or null for a table without a writer gate. */
+    private static long[] pauses(HashTable t) {
+        if (!(t instanceof ConcurrentProbingHashTable c)) return null;
+        return new long[]{c.getResizes(), c.getResizePauseNanos(), c.getMaxResizePauseNanos()};
+    }
+
+    /** Resizes, mean pause and paused share between two {@link #pauses} snapshots; max is lifetime. */
+    private static String pauseColumns(long[] before, long[] after, long millis) {
+        if (before == null) return "-\t-\t-\t-";
+        long resizes = after[0] - before[0];
+        long nanos   = after[1] - before[1];
+        return String.format("%d\t%.3f\t%.3f\t%.2f", resizes,
+                resizes == 0 ? 0.0 : nanos / 1e6 / resizes,
+                after[2] / 1e6,
+                100.0 * nanos / (millis * 1e6));
+    }
+
+    /** 1, 2, 4, … and always the requested maximum last. */
+    private static int next(int threads, int max) {
+        return (threads < max && threads * 2 > max) ? max : threads * 2;
+    }
+
+    private static HashTable create(String style, int[] pool, char code) {
+        HashTable t = style.equals("concurrent")
+                ? new ConcurrentProbingHashTable(16, ProbeType.LINEAR, code)
+                : new LockedTable(new ProbingHashTable(16, ProbeType.LINEAR, code));
+        for (int i = 0; i < pool.length; i += 2) t.insert(pool[i]);   // finds hit ~50 %
+        return t;
+    }
+
+    /** Runs the mixed workload on {@code threads} threads; returns total operations. */
+    private static long run(HashTable t, int threads, int[] pool, long millis)
+            throws InterruptedException {
+        LongAdder ops = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            long seed = 42 + i;
+            Thread w = new Thread(() -> {
+                SplittableRandom rnd = new SplittableRandom(seed);
+                long done = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    for (int j = 0; j < 256; j++) {        // check the clock every 256 ops
+                        int key = pool[rnd.nextInt(pool.length)];
+                        int op  = rnd.nextInt(100);
+                        if (op < FIND_PERCENT)                       t.find(key);
+                        else if (op < FIND_PERCENT + INSERT_PERCENT) t.insert(key);
+                        else                                         t.delete(key);
+                    }
+                    done += 256;
+                }
+                ops.add(done);
+            });
+            w.start();
+            workers.add(w);
+        }
+        deadline[0] = System.nanoTime() + millis * 1_000_000L;
+        start.countDown();                                  // publishes deadline[0]
+        for (Thread w : workers) w.join();
+        return ops.sum();
+    }
+
+    /** The baseline: every call serialised on one monitor. */
+    private static final class LockedTable implements HashTable {
+        private final HashTable t;
+
+        LockedTable(HashTable t) { this.t = t; }
+
+        @Override public synchronized boolean insert(Integer key) { return t.insert(key); }
+        @Override public synchronized Integer find(Integer key)   { return t.find(key); }
+        @Override public synchronized boolean delete(Integer key) { return t.delete(key); }
+        @Override public synchronized int size()                  { return t.size(); }
+        @Override public synchronized double averageProbes()      { return t.averageProbes(); }
+        @Override public synchronized void print()                { t.print(); }
+        @Override public synchronized void setVerbose(int level)  { t.setVerbose(level); }
+        @Override public synchronized int getCollisions()         { return t.getCollisions(); }
+        @Override public synchronized int getInsertions()         { return t.getInsertions(); }
+        @Override public synchronized int getDuplicates()         { return t.getDuplicates(); }
+    }
+}
@@ -5,16 +5,23 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+
+import datastructures.HashFunctionRegistry;
 
 public class ConfigHandler {
     private final String PREFIX_DIR = "src/main/resources/data/";
     private String commandsFile     = "commands.txt";
-    private String hashFunction     = "d";  // [d]ivision, [m]ultiplication, [r]andom, [f]olding, [c]ustom
+    private String hashFunction     = "i";  // a HashFunctionRegistry letter ([i] division, [m]ultiplication, [f]ibonacci, …) or name
     private String style           = "chain";   // chain | linear | quad | double
     private Integer hashSize        = 10;
     private Integer verbose         = 0;
     private int dataIndex;
     private int prefix              = 0;
+    private String mode             = "serial";  // serial | pipeline | sharded
+    private int batchSize           = OpRing.DEFAULT_BATCH;
+    private int ringSlots           = OpRing.DEFAULT_SLOTS;
+    private int shards              = Runtime.getRuntime().availableProcessors();
 
     public ConfigHandler(String[] args ) {
         parseArgs(args);
@@ -47,6 +54,26 @@ public class ConfigHandler {
                     System.out.println("Setting Table Style: " + this.style);
                     break;
 
+                case "-m": // replay mode: serial, pipeline, sharded
+                    this.mode = args[++i].toLowerCase(Locale.ROOT);
+                    System.out.println("Setting Replay Mode: " + this.mode);
+                    break;
+
+                case "-b": // pipeline / sharded: ops per batch
+                    this.batchSize = Integer.parseInt(args[++i]);
+                    System.out.println("Setting Batch Size: " + this.batchSize);
+                    break;
+
+                case "-n": // sharded: number of shard tables / worker threads
+                    this.shards = Integer.parseInt(args[++i]);
+                    System.out.println("Setting Shards: " + this.shards);
+                    break;
+
+                case "-r": // pipeline / sharded: batches per ring (power of two)
+                    this.ringSlots = Integer.parseInt(args[++i]);
+                    System.out.println("Setting Ring Slots: " + this.ringSlots);
+                    break;
+
                 case "-p":
                         // -p only use for files in mvn resource/data directory
                         // otherwise relative path
@@ -74,21 +101,22 @@ public class ConfigHandler {
         return dataIndex; // Default or specified index for data processing
     }
 
+    /**
+     * Registry name for {@code -h}: a single letter is looked up with
+     * {@link HashFunctionRegistry#nameForCode}, anything else is taken as a
+     * name.  Driver rejects names that are not registered.
+     */
     public String getHashFunctionString() {
-        switch (this.hashFunction) {
-            case "d":
-                return "division";
-            case "m":
-                return "multiplication";
-            case "r":
-                return "random";
-            case "f":
-                return "folding";
-            case "c":
-                return "custom";
-            default:
-                return "unknown"; // Handle unexpected cases
+        if (this.hashFunction.length() == 1) {
+            String name = HashFunctionRegistry.nameForCode(this.hashFunction.charAt(0));
+            if (name != null) return name;
         }
+        return this.hashFunction.toLowerCase(Locale.ROOT);
+    }
+
+    /** True if {@code -h} names a registered hash function. */
+    public boolean hasKnownHashFunction() {
+        return HashFunctionRegistry.isRegistered(getHashFunctionString());
     }
 
     public Integer getVerbose() {
@@ -118,4 +146,20 @@ public class ConfigHandler {
         return style;
     }
 
+    public String getMode() {
+        return mode;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getRingSlots() {
+        return ringSlots;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
 }
@@ -1,61 +1,166 @@
 package applications;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
 
+import datastructures.ConcurrentChainingHashTable;
+import datastructures.ConcurrentProbingHashTable;
+import datastructures.CuckooHashTable;
+import datastructures.HashFunction;
+import datastructures.HashFunctionRegistry;
 import datastructures.HashTable;
+import datastructures.HopscotchHashTable;
+import datastructures.IntProbingHashTable;
+import datastructures.PackedChainingHashTable;
 import datastructures.SimpleHashTable;
 import datastructures.ProbingHashTable;
 import datastructures.SeparateChainingHashTable;
+import datastructures.SwissHashTable;
 import datastructures.ProbeType;
 
 public class Driver {
-    private static void processCommands(HashTable hashTable, ConfigHandler config) {
+    private static void processCommands(ConfigHandler config) {
         try {
-            List<String[]> commands = config.readCommands();
-            for (String[] parts : commands) {
-                hashTable.setVerbose(config.getVerbose());
-                // Check if the command needs additional arguments and skip if not provided
-                Integer key = null;
-                if (parts.length > 1 ) {
-                    try {
-                        key = Integer.parseInt(parts[1]); // Convert string to integer
-                    } catch (NumberFormatException e) {
-                        System.out.println("Invalid number format for command: " + parts[0] + " " + parts[1]);
-                        continue; // Skip this command due to invalid number format
-                    }
-                }
-
-                if (config.getVerbose() > 5) {
-                    // demonstrating verbose level
-                    System.out.println("Processing command: " + parts[0] );
-                }
-                switch (parts[0]) {
-                    case "insert":
-                        boolean inserted = hashTable.insert(key);
-                        if( config.getVerbose() > 1 ) { System.out.println("Insert " + parts[1] + (inserted ? "" : " failed")); }
-                        break;
-                    case "delete":
-                        boolean deleted = hashTable.delete(key);
-                        if( config.getVerbose() > 1 ) { System.out.println("Delete " + parts[1] + (deleted ? "" : " failed") ); }
-                        break;
-                    case "search":
-                        boolean found = hashTable.find(key) != null;
-                        if( config.getVerbose() > 1 ) { System.out.println("Search " + parts[1] + (found ? "found" : " failed") ); }
-                        break;
-                    case "print":
-                        hashTable.print();
-                        break;
-                    default:
-                        System.out.println("Unknown command: " + parts[0]);
+            Path file = Path.of(config.getCommandsFile());
+            switch (config.getMode()) {
+                case "pipeline" -> PipelinedReplay.run(file, handler(createHashTable(config, config.getHashSize()), config),
+                                                       config.getBatchSize(), config.getRingSlots());
+                case "sharded"  -> {
+                    HashTable[] shards = new HashTable[config.getShards()];
+                    int size = Math.max(1, (config.getHashSize() + shards.length - 1) / shards.length);
+                    for (int i = 0; i < shards.length; i++) shards[i] = createHashTable(config, size);
+                    ShardedReplay.run(file, shards, (t, out) -> handler(t, config, out),
+                                      config.getBatchSize(), config.getRingSlots());
                 }
+                default         -> replay(file, handler(createHashTable(config, config.getHashSize()), config));
             }
         } catch (IOException e) {
             System.out.println("Failed to read commands: " + e.getMessage());
         }
     }
 
+    /** How commands reach {@code hashTable}: echoed one by one, or in batches when nothing is echoed. */
+    private static CommandReader.Handler handler(HashTable hashTable, ConfigHandler config) {
+        return handler(hashTable, config, System.out);
+    }
+
+    /** Same, with the handler's and the table's messages going to {@code out}. */
+    private static CommandReader.Handler handler(HashTable hashTable, ConfigHandler config, PrintStream out) {
+        hashTable.setVerbose(config.getVerbose());
+        hashTable.setOutput(out);
+        return config.getVerbose() <= 1
+               ? new Batched(hashTable, out)
+               : new Echoed(hashTable, config.getVerbose(), out);
+    }
+
+    /** Feeds a text command file or a binary op-log to {@code handler}. */
+    static void replay(Path file, CommandReader.Handler handler) throws IOException {
+        if (OpLog.isOpLog(file)) OpLog.replay(file, handler);
+        else                     CommandReader.read(file, handler);
+    }
+
+    /** Applies each command as it is read, echoing it. */
+    private static final class Echoed implements CommandReader.Handler {
+        private final HashTable hashTable;
+        private final int verbose;
+        private final PrintStream out;
+
+        Echoed(HashTable hashTable, int verbose, PrintStream out) {
+            this.hashTable = hashTable;
+            this.verbose   = verbose;
+            this.out       = out;
+        }
+
+        private void trace(String command) {
+            if (verbose > 5) out.println("Processing command: " + command);   // demonstrating verbose level
+        }
+
+        @Override public void insert(int key) {
+            trace("insert");
+            boolean inserted = hashTable.insert(key);
+            out.println("Insert " + key + (inserted ? "" : " failed"));
+        }
+
+        @Override public void delete(int key) {
+            trace("delete");
+            boolean deleted = hashTable.delete(key);
+            out.println("Delete " + key + (deleted ? "" : " failed"));
+        }
+
+        @Override public void search(int key) {
+            trace("search");
+            boolean found = hashTable.find(key) != null;
+            out.println("Search " + key + (found ? "found" : " failed"));
+        }
+
+        @Override public void print() {
+            trace("print");
+            hashTable.print();
+        }
+
+        @Override public void invalid(String message) {
+            out.println(message);
+        }
+    }
+
+    /**
+     * Same commands, but each run of consecutive insert / delete / search keys
+     * goes to the table as one insertAll / deleteAll / findAll call, so tables
+     * with batch probing can overlap the lookups.  Runs are cut at
+     * {@link #BATCH} keys, so memory stays constant however long the file is.
+     */
+    private static final class Batched implements CommandReader.Handler {
+        static final int BATCH = 256;
+        private static final int NONE = 0, INSERT = 1, DELETE = 2, SEARCH = 3;
+
+        private final HashTable hashTable;
+        private final PrintStream out;
+        private final int[]     run   = new int[BATCH];
+        private final boolean[] found = new boolean[BATCH];
+        private int n;
+        private int pending = NONE;                 // command of the current run
+
+        Batched(HashTable hashTable, PrintStream out) {
+            this.hashTable = hashTable;
+            this.out       = out;
+        }
+
+        private void add(int op, int key) {
+            if (op != pending) flush();
+            pending  = op;
+            run[n++] = key;
+            if (n == BATCH) flush();
+        }
+
+        private void flush() {
+            if (n == 0) return;
+            switch (pending) {
+                case INSERT -> hashTable.insertAll(run, n);
+                case DELETE -> hashTable.deleteAll(run, n);
+                default     -> hashTable.findAll(run, n, found);
+            }
+            n = 0;
+        }
+
+        @Override public void insert(int key) { add(INSERT, key); }
+        @Override public void delete(int key) { add(DELETE, key); }
+        @Override public void search(int key) { add(SEARCH, key); }
+
+        @Override public void print() {
+            flush();
+            pending = NONE;
+            hashTable.print();
+        }
+
+        @Override public void invalid(String message) {
+            out.println(message);
+        }
+
+        @Override public void end() { flush(); }
+    }
+
     public static void printArgList( ConfigHandler config, String[] args ) {
         if ( config.getPrefix() > -1) {
             System.out.print("\tCommand line:            ");
@@ -73,34 +178,93 @@ public class Driver {
         System.out.println("\tHash function:           " + config.getHashFunctionString());
         System.out.println("\tHash size:               " + config.getHashSize());
         System.out.println("\tTable style:             " + config.getStyle());
+        System.out.println("\tReplay mode:             " + config.getMode()
+                           + (config.getMode().equals("pipeline")
+                              ? " (batch " + config.getBatchSize() + ", " + config.getRingSlots() + " slots)"
+                              : config.getMode().equals("sharded") ? " (" + config.getShards() + " shards)" : ""));
         System.out.println("\tVerbose level :          " + config.getVerbose());
     }
 
+    /** Every style {@link #createHashTable(String, int, HashFunction)} knows. */
+    static final List<String> STYLES = List.of(
+            "chain", "packed", "linear", "quad", "double", "robin", "hopscotch", "cuckoo", "swiss",
+            "concurrent", "concurrent-chain", "int-linear", "int-quad", "int-double", "simple");
+
     /**
      * Factory for whichever table style the instructor selects in the command file
      * or on the command‑line.
      */
-    private static HashTable createHashTable(ConfigHandler config) {
-        int    size   = config.getHashSize();
-        char   hashFn = config.getHashFunctionString().charAt(0);  // 'd','m','f',…
+    private static HashTable createHashTable(ConfigHandler config, int size) {
         String style = (config.getStyle() == null || config.getStyle().isBlank())
                        ? "chain"
-                       : config.getStyle().toLowerCase(Locale.ROOT);   // chain | linear | quad | double
+                       : config.getStyle().toLowerCase(Locale.ROOT);   // chain | linear | quad | double | int-*
+        return createHashTable(style, size, HashFunctionRegistry.forName(config.getHashFunctionString()));
+    }
 
+    static HashTable createHashTable(String style, int size, HashFunction hashFn) {
         return switch (style) {
             case "chain"  -> new SeparateChainingHashTable(size, hashFn);
+            case "packed" -> new PackedChainingHashTable(size, hashFn);
             case "linear" -> new ProbingHashTable(size, ProbeType.LINEAR, hashFn);
             case "quad"   -> new ProbingHashTable(size, ProbeType.QUADRATIC, hashFn);
             case "double" -> new ProbingHashTable(size, ProbeType.DOUBLE_HASHING, hashFn);
+            case "robin"  -> new ProbingHashTable(size, ProbeType.ROBIN_HOOD, hashFn);
+            case "hopscotch" -> new HopscotchHashTable(size, hashFn);
+            case "cuckoo" -> new CuckooHashTable(size, hashFn);
+            case "swiss"  -> new SwissHashTable(size, hashFn);
+            case "concurrent" -> new ConcurrentProbingHashTable(size, ProbeType.LINEAR, hashFn);
+            case "concurrent-chain" -> new ConcurrentChainingHashTable(size, hashFn);
+            case "int-linear" -> new IntProbingHashTable(size, ProbeType.LINEAR, hashFn);
+            case "int-quad"   -> new IntProbingHashTable(size, ProbeType.QUADRATIC, hashFn);
+            case "int-double" -> new IntProbingHashTable(size, ProbeType.DOUBLE_HASHING, hashFn);
             default       -> new SimpleHashTable(size);            // safe fallback
         };
     }
 
+    /**
+     * Like {@link #createHashTable(String, int, HashFunction)}, but the
+     * open‑address styles grow only once the load would pass {@code maxLoad}
+     * instead of their default threshold.  Styles with a fixed threshold
+     * reject a {@code maxLoad} above it; chaining never grows on its own.
+     */
+    static HashTable createHashTable(String style, int size, HashFunction hashFn, double maxLoad) {
+        return switch (style) {
+            case "linear" -> new ProbingHashTable(size, ProbeType.LINEAR, hashFn, maxLoad, ProbingHashTable.GROW_DOUBLE);
+            case "quad"   -> new ProbingHashTable(size, ProbeType.QUADRATIC, hashFn, maxLoad, ProbingHashTable.GROW_NEXT_PRIME);
+            case "double" -> new ProbingHashTable(size, ProbeType.DOUBLE_HASHING, hashFn, maxLoad, ProbingHashTable.GROW_NEXT_PRIME);
+            case "robin"  -> new ProbingHashTable(size, ProbeType.ROBIN_HOOD, hashFn, maxLoad, ProbingHashTable.GROW_NEXT_PRIME);
+            case "concurrent" -> new ConcurrentProbingHashTable(size, ProbeType.LINEAR, hashFn, maxLoad, ProbingHashTable.GROW_DOUBLE);
+            case "int-linear" -> new IntProbingHashTable(size, ProbeType.LINEAR, hashFn, maxLoad, ProbingHashTable.GROW_DOUBLE);
+            case "int-quad"   -> new IntProbingHashTable(size, ProbeType.QUADRATIC, hashFn, maxLoad, ProbingHashTable.GROW_NEXT_PRIME);
+            case "int-double" -> new IntProbingHashTable(size, ProbeType.DOUBLE_HASHING, hashFn, maxLoad, ProbingHashTable.GROW_NEXT_PRIME);
+            case "hopscotch" -> withinLoad(style, maxLoad, HopscotchHashTable.LOAD_FACTOR_THRESHOLD,
+                                           new HopscotchHashTable(size, hashFn));
+            case "swiss"  -> withinLoad(style, maxLoad, SwissHashTable.LOAD_FACTOR_THRESHOLD,
+                                        new SwissHashTable(size, hashFn));
+            case "cuckoo" -> {
+                CuckooHashTable table = new CuckooHashTable(size, hashFn);
+                yield withinLoad(style, maxLoad, table.maxLoad(), table);
+            }
+            default       -> createHashTable(style, size, hashFn);
+        };
+    }
+
+    private static HashTable withinLoad(String style, double maxLoad, double threshold, HashTable table) {
+        if (maxLoad > threshold)
+            throw new IllegalArgumentException(style + " grows past load " + threshold + ", cannot hold " + maxLoad);
+        return table;
+    }
+
     public static void main(String[] args) {
         ConfigHandler config = new ConfigHandler( args );
         Integer verbose = config.getVerbose();
-        HashTable hashTable = createHashTable(config);
-        processCommands(hashTable, config);  // Process input commands
+        if (!config.hasKnownHashFunction()) {
+            System.out.println("Unknown hash function: " + config.getHashFunction());
+            System.out.println("Usage: -h <letter|name>, where name is one of "
+                               + HashFunctionRegistry.names());
+            return;
+        }
+        processCommands(config);  // Process input commands
         printSettings(config, args );
     }
 }
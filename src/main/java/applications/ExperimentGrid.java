@@ -0,0 +1,242 @@
+package applications;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+
+import datastructures.HashFunctionRegistry;
+import datastructures.HashTable;
+
+/**
+ * Runs a grid of table experiments in parallel and streams one result per cell.
+ *
+ * A cell is one (style, hash, size, load, mix, pattern, seed).  It builds a
+ * table of m = ⌈size / load⌉ through the Driver's factory, with the
+ * open‑address tables' grow threshold set to load so the fill really reaches
+ * it (styles with a fixed, lower threshold report an error), times inserting
+ * {@code size} keys of the pattern ("fill"), then times {@code size} operations
+ * drawn from the mix ("ops"): "I/S/D" percentages of inserts of new keys,
+ * searches and deletes of keys seen so far.  Keys and operations are generated
+ * before the clock starts, from a random stream of the cell's own seed, so
+ * cells share nothing and give the same counts whatever runs beside them.
+ *
+ * Each cell runs {@code warmup} untimed times and then {@code reps} times,
+ * every run on a fresh table; times are the median of the reps.  Cells run on
+ * a fork‑join pool of {@code threads} workers and are printed in the order they
+ * finish.  Cells running side by side share caches and memory bandwidth, so
+ * use threads=1 when absolute times matter more than the sweep's wall time.
+ * A cell whose table throws is reported with the exception in "error" and
+ * does not stop the rest of the grid.
+ *
+ * Usage: ExperimentGrid [name=value …] with, comma separated (defaults):
+ *   styles=chain,linear,quad,double,robin (or all)   hashes=division,multiplication,random
+ *   sizes=1000000   loads=0.5,0.75   mixes=100/0/0,10/80/10   patterns=uniform,clustered
+ *   seeds=1   warmup=1   reps=3   threads=#cores   format=csv|json
+ *
+ * Prints CSV (one row per cell) or a JSON array, one element per cell.
+ */
+public class ExperimentGrid {
+
+    private static final byte SEARCH = 0, INSERT = 1, DELETE = 2;
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("styles",   "chain,linear,quad,double,robin"),
+            Map.entry("hashes",   "division,multiplication,random"),
+            Map.entry("sizes",    "1000000"),
+            Map.entry("loads",    "0.5,0.75"),
+            Map.entry("mixes",    "100/0/0,10/80/10"),
+            Map.entry("patterns", "uniform,clustered"),
+            Map.entry("seeds",    "1"),
+            Map.entry("warmup",   "1"),
+            Map.entry("reps",     "3"),
+            Map.entry("threads",  Integer.toString(Runtime.getRuntime().availableProcessors())),
+            Map.entry("format",   "csv"));
+
+    /** One point of the grid. */
+    record Cell(String style, String hash, int size, double load, String mix, String pattern, long seed) { }
+
+    /** A finished cell; times are medians over the reps, counts are from the last rep. */
+    record Result(Cell cell, int m, double fillMillis, double opsMillis, int collisions,
+                  int duplicates, double avgProbes, int finalSize, long hits, String error) { }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        Map<String, String> opt = options(args);
+        List<String> styles = list(opt.get("styles"));
+        if (styles.equals(List.of("all"))) styles = Driver.STYLES;
+        for (String s : styles)
+            if (!Driver.STYLES.contains(s))
+                throw new IllegalArgumentException("unknown style: " + s + " (known: " + Driver.STYLES + ")");
+        List<String> hashes = list(opt.get("hashes"));
+        for (String h : hashes) HashFunctionRegistry.forName(h);                     // fail before the run
+        List<String> mixes = list(opt.get("mixes"));
+        for (String mix : mixes) percentages(mix);
+        int warmup  = Integer.parseInt(opt.get("warmup"));
+        int reps    = Integer.parseInt(opt.get("reps"));
+        int threads = Integer.parseInt(opt.get("threads"));
+        boolean csv = opt.get("format").equalsIgnoreCase("csv");
+        if (reps < 1 || threads < 1)
+            throw new IllegalArgumentException("reps and threads must be positive");
+
+        List<Cell> cells = new ArrayList<>();
+        for (String style : styles)
+            for (String hash : hashes)
+                for (String size : list(opt.get("sizes")))
+                    for (String load : list(opt.get("loads")))
+                        for (String mix : mixes)
+                            for (String pattern : list(opt.get("patterns")))
+                                for (String seed : list(opt.get("seeds")))
+                                    cells.add(new Cell(style, hash, Integer.parseInt(size),
+                                            Double.parseDouble(load), mix, pattern, Long.parseLong(seed)));
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            CompletionService<Result> done = new ExecutorCompletionService<>(pool);
+            for (Cell cell : cells) done.submit(() -> isolated(cell, warmup, reps));
+
+            System.out.println(csv ? "style,hash,size,m,load,mix,pattern,seed,fill_ms,ops_ms,ops_mops,"
+                                   + "collisions,duplicates,avg_probes,final_size,hits,error" : "[");
+            for (int i = 0; i < cells.size(); i++) {
+                Result r = done.take().get();
+                System.out.println(csv ? csv(r) : json(r) + (i + 1 < cells.size() ? "," : ""));
+            }
+            if (!csv) System.out.println("]");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> opt = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq).toLowerCase(Locale.ROOT);
+            if (eq < 0 || !DEFAULTS.containsKey(name))
+                throw new IllegalArgumentException("expected name=value with name in " + DEFAULTS.keySet() + ": " + arg);
+            opt.put(name, arg.substring(eq + 1));
+        }
+        return opt;
+    }
+
+    private static List<String> list(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                     .map(s -> s.toLowerCase(Locale.ROOT)).toList();
+    }
+
+    /** "I/S/D" → {insert, search, delete} percentages summing to 100. */
+    private static int[] percentages(String mix) {
+        String[] p = mix.split("/");
+        if (p.length != 3)
+            throw new IllegalArgumentException("mix must be insert/search/delete percentages: " + mix);
+        int[] pct = {Integer.parseInt(p[0]), Integer.parseInt(p[1]), Integer.parseInt(p[2])};
+        if (pct[0] < 0 || pct[1] < 0 || pct[2] < 0 || pct[0] + pct[1] + pct[2] != 100)
+            throw new IllegalArgumentException("mix percentages must be non-negative and sum to 100: " + mix);
+        return pct;
+    }
+
+    /* ---------- one cell ------------------------------------------------ */
+
+    private static Result isolated(Cell c, int warmup, int reps) {
+        try {
+            return run(c, warmup, reps);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            return new Result(c, (int) Math.ceil(c.size() / c.load()), Double.NaN, Double.NaN,
+                              0, 0, Double.NaN, 0, 0, e.toString());
+        }
+    }
+
+    private static Result run(Cell c, int warmup, int reps) {
+        int m = (int) Math.ceil(c.size() / c.load());
+        int[] fill = new int[c.size()];
+        for (int i = 0; i < fill.length; i++) fill[i] = key(c, i);
+
+        /* op stream: inserts take the next unused key, searches / deletes any key used so far */
+        int[] pct = percentages(c.mix());
+        SplittableRandom rnd = new SplittableRandom(c.seed());
+        byte[] ops  = new byte[c.size()];
+        int[]  keys = new int[c.size()];
+        int    used = c.size();
+        for (int i = 0; i < ops.length; i++) {
+            int r = rnd.nextInt(100);
+            if (r < pct[0])               { ops[i] = INSERT; keys[i] = key(c, used++); }
+            else if (r < pct[0] + pct[1]) { ops[i] = SEARCH; keys[i] = key(c, rnd.nextInt(Math.max(1, used))); }
+            else                          { ops[i] = DELETE; keys[i] = key(c, rnd.nextInt(Math.max(1, used))); }
+        }
+
+        double[] fillMs = new double[reps], opsMs = new double[reps];
+        HashTable table = null;
+        long hits = 0;
+        for (int rep = -warmup; rep < reps; rep++) {
+            table = Driver.createHashTable(c.style(), m, HashFunctionRegistry.forName(c.hash()), c.load());
+            table.setVerbose(0);
+            long t0 = System.nanoTime();
+            for (int k : fill) table.insert(k);
+            long t1 = System.nanoTime();
+            hits = 0;
+            for (int i = 0; i < ops.length; i++) {
+                switch (ops[i]) {
+                    case INSERT -> table.insert(keys[i]);
+                    case DELETE -> { if (table.delete(keys[i])) hits++; }
+                    default     -> { if (table.find(keys[i]) != null) hits++; }
+                }
+            }
+            long t2 = System.nanoTime();
+            if (rep >= 0) {
+                fillMs[rep] = (t1 - t0) / 1e6;
+                opsMs[rep]  = (t2 - t1) / 1e6;
+            }
+        }
+        return new Result(c, m, median(fillMs), median(opsMs), table.getCollisions(),
+                          table.getDuplicates(), table.averageProbes(), table.size(), hits, null);
+    }
+
+    /** The i‑th key of the cell's pattern, shifted by its seed. */
+    private static int key(Cell c, long i) {
+        return HashQualityAnalyzer.key(c.pattern(), (c.seed() << 40) + i);
+    }
+
+    private static double median(double[] xs) {
+        double[] s = xs.clone();
+        Arrays.sort(s);
+        return s.length % 2 == 1 ? s[s.length / 2] : (s[s.length / 2 - 1] + s[s.length / 2]) / 2;
+    }
+
+    /* ---------- output -------------------------------------------------- */
+
+    private static String csv(Result r) {
+        Cell c = r.cell();
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.2f,%s,%s,%d,%.1f,%.1f,%.2f,%d,%d,%.3f,%d,%d,%s",
+                c.style(), c.hash(), c.size(), r.m(), c.load(), c.mix(), c.pattern(), c.seed(),
+                r.fillMillis(), r.opsMillis(), mops(r), r.collisions(), r.duplicates(), r.avgProbes(),
+                r.finalSize(), r.hits(), r.error() == null ? "" : '"' + r.error().replace('"', '\'') + '"');
+    }
+
+    private static String json(Result r) {
+        Cell c = r.cell();
+        return String.format(Locale.ROOT,
+                "  {\"style\": \"%s\", \"hash\": \"%s\", \"size\": %d, \"m\": %d, \"load\": %.2f, "
+              + "\"mix\": \"%s\", \"pattern\": \"%s\", \"seed\": %d, \"fill_ms\": %s, \"ops_ms\": %s, "
+              + "\"ops_mops\": %s, \"collisions\": %d, \"duplicates\": %d, \"avg_probes\": %s, "
+              + "\"final_size\": %d, \"hits\": %d, \"error\": %s}",
+                c.style(), c.hash(), c.size(), r.m(), c.load(), c.mix(), c.pattern(), c.seed(),
+                number("%.1f", r.fillMillis()), number("%.1f", r.opsMillis()), number("%.2f", mops(r)),
+                r.collisions(), r.duplicates(), number("%.3f", r.avgProbes()), r.finalSize(), r.hits(),
+                r.error() == null ? "null" : '"' + r.error().replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+    }
+
+    /** JSON has no NaN: failed cells get null. */
+    private static String number(String format, double x) {
+        return Double.isNaN(x) ? "null" : String.format(Locale.ROOT, format, x);
+    }
+
+    private static double mops(Result r) {
+        return r.opsMillis() == 0 ? 0 : r.cell().size() / (r.opsMillis() * 1e3);
+    }
+}
@@ -0,0 +1,257 @@
+package applications;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import datastructures.HashFunction;
+import datastructures.HashFunctionRegistry;
+import datastructures.HashFunctions;
+
+/**
+ * Scores hash functions over large key streams, so a hash can be picked per
+ * workload from data instead of from a 500‑key run.
+ *
+ * Every function (the registry's plus foldingFour and secondHash) is run over
+ * each key pattern – uniform, sequential, clustered (runs of 64 consecutive
+ * keys) and strided (multiples of 1024) – into m buckets.  Keys are derived
+ * from their index, so the stream is never stored: it is cut into chunks that
+ * run on the common fork‑join pool, each with its own bucket counts, merged at
+ * the end.  Reported per (hash, pattern):
+ *  • chi2 and its z‑score against a uniform spread (|z| ≲ 3 is uniform)
+ *  • max bucket load next to the mean and the max a random hash would give
+ *  • avg probe: Σ c² / n, the expected chain a stored key sits in
+ *  • avalanche: for {@link #AVALANCHE_KEYS} uniform keys, the chance that
+ *    flipping input bit i flips output bit j of hash(k, 2^16); the mean and
+ *    worst |p − ½| (the full 32 × 16 matrix is in the JSON)
+ *  • coprime fail: share of keys whose secondHash step shares a factor with
+ *    m, so double hashing would miss slots (secondHash only)
+ *
+ * Usage: HashQualityAnalyzer [keys=10000000] [m=65536] [format=csv|json] [hashes=all|name,name…]
+ *
+ * Prints CSV (one row per hash × pattern) or a JSON array.
+ */
+public class HashQualityAnalyzer {
+
+    /** Uniform keys sampled for the avalanche matrix. */
+    public static final int AVALANCHE_KEYS = 1 << 16;
+    /** Output bits examined by the avalanche test (hash into 2^16 buckets). */
+    public static final int AVALANCHE_BITS = 16;
+
+    private static final String[] PATTERNS = {"uniform", "sequential", "clustered", "strided"};
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "keys",   "10000000",
+            "m",      "65536",
+            "format", "csv",
+            "hashes", "all");
+
+    /** One scored (hash, pattern) cell. */
+    record Row(String hash, String pattern, long keys, int m, double chi2, double chi2z,
+               int maxLoad, double meanLoad, double expectedMaxLoad, double avgProbe,
+               double avalancheMean, double avalancheMax, double[][] avalanche,
+               double coprimeFail, long millis) { }
+
+    public static void main(String[] args) {
+        Map<String, String> opt = options(args);
+        long   n      = Long.parseLong(opt.get("keys"));
+        int    m      = Integer.parseInt(opt.get("m"));
+        String format = opt.get("format").toLowerCase(Locale.ROOT);
+        String only   = opt.get("hashes");
+        if (m < 2)
+            throw new IllegalArgumentException("m must be at least 2: " + m);
+
+        Map<String, HashFunction> hashes = selected(only);
+        List<Row> rows = new ArrayList<>();
+        if (format.equals("csv"))
+            System.out.println("hash,pattern,keys,m,chi2,chi2_z,max_load,mean_load,expected_max_load,"
+                             + "avg_probe,avalanche_mean_bias,avalanche_max_bias,coprime_fail,millis");
+        for (Map.Entry<String, HashFunction> e : hashes.entrySet()) {
+            double[][] avalanche = avalanche(e.getValue());
+            for (String pattern : PATTERNS) {
+                Row row = score(e.getKey(), e.getValue(), pattern, n, m, avalanche);
+                if (format.equals("csv")) System.out.println(csv(row));     // stream as cells finish
+                else rows.add(row);
+            }
+        }
+        if (!format.equals("csv")) System.out.println(json(rows));
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> opt = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq).toLowerCase(Locale.ROOT);
+            if (eq < 0 || !DEFAULTS.containsKey(name))
+                throw new IllegalArgumentException("expected name=value with name in " + DEFAULTS.keySet() + ": " + arg);
+            opt.put(name, arg.substring(eq + 1));
+        }
+        return opt;
+    }
+
+    /** Registry hashes plus the two helpers that are not table hashes. */
+    private static Map<String, HashFunction> selected(String only) {
+        Map<String, HashFunction> all = new LinkedHashMap<>();
+        for (String name : HashFunctionRegistry.names()) all.put(name, HashFunctionRegistry.forName(name));
+        all.put("foldingfour", HashFunctions::foldingFour);
+        all.put("secondhash",  HashFunctions::secondHash);
+        if (only.equals("all")) return all;
+        Map<String, HashFunction> picked = new LinkedHashMap<>();
+        for (String name : only.toLowerCase(Locale.ROOT).split(",")) {
+            HashFunction fn = all.get(name.trim());
+            if (fn == null)
+                throw new IllegalArgumentException("unknown hash function: " + name + " (known: " + all.keySet() + ")");
+            picked.put(name.trim(), fn);
+        }
+        return picked;
+    }
+
+    /* ---------- key streams -------------------------------------------- */
+
+    /** The i‑th key of {@code pattern}; a pure function of i so chunks need no shared state. */
+    static int key(String pattern, long i) {
+        return switch (pattern) {
+            case "sequential" -> (int) i;
+            case "clustered"  -> (int) mix(i >>> 6) + (int) (i & 63);
+            case "strided"    -> (int) (i * 1024);
+            default           -> (int) mix(i);
+        };
+    }
+
+    /** SplitMix64 finaliser. */
+    private static long mix(long z) {
+        z = (z + 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /* ---------- scoring ------------------------------------------------- */
+
+    private static Row score(String name, HashFunction fn, String pattern, long n, int m,
+                             double[][] avalanche) {
+        long t0 = System.nanoTime();
+        int  chunks = CHUNKS_PER_THREAD * Runtime.getRuntime().availableProcessors();
+        long per    = (n + chunks - 1) / chunks;
+        boolean second = name.equals("secondhash");
+        int kind = HashFunctionRegistry.kindOf(fn);
+
+        long[] counts = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    long[] local = new long[m + 1];        // [m] = keys whose step is not coprime to m
+                    long from = c * per, to = Math.min(n, from + per);
+                    for (long i = from; i < to; i++) {
+                        int h = Math.floorMod(HashFunctionRegistry.hash(kind, fn, key(pattern, i), m), m);
+                        local[h]++;
+                        if (second && gcd(h, m) != 1) local[m]++;
+                    }
+                    return local;
+                })
+                .reduce((a, b) -> { for (int i = 0; i < a.length; i++) a[i] += b[i]; return a; })
+                .orElseGet(() -> new long[m + 1]);
+
+        double mean = (double) n / m;
+        double chi2 = 0, sumSquares = 0;
+        long   max  = 0;
+        for (int i = 0; i < m; i++) {
+            double d = counts[i] - mean;
+            chi2       += d * d / mean;
+            sumSquares += (double) counts[i] * counts[i];
+            max         = Math.max(max, counts[i]);
+        }
+        double chi2z = (chi2 - (m - 1)) / Math.sqrt(2.0 * (m - 1));
+        double expectedMax = mean + Math.sqrt(2 * mean * Math.log(m)) + Math.log(m);
+
+        double avMean = 0, avMax = 0;
+        for (double[] row : avalanche)
+            for (double p : row) {
+                double bias = Math.abs(p - 0.5);
+                avMean += bias;
+                avMax   = Math.max(avMax, bias);
+            }
+        avMean /= 32 * AVALANCHE_BITS;
+
+        return new Row(name, pattern, n, m, chi2, chi2z, (int) max, mean, expectedMax,
+                n == 0 ? 0 : sumSquares / n, avMean, avMax, avalanche,
+                second ? (double) counts[m] / n : Double.NaN,
+                (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    /** p[i][j] = P(output bit j flips | input bit i flips), hashing into 2^16 buckets. */
+    static double[][] avalanche(HashFunction fn) {
+        final int buckets = 1 << AVALANCHE_BITS;
+        int chunks = CHUNKS_PER_THREAD * Runtime.getRuntime().availableProcessors();
+        int per    = (AVALANCHE_KEYS + chunks - 1) / chunks;
+        int kind   = HashFunctionRegistry.kindOf(fn);
+        long[] flips = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    long[] local = new long[32 * AVALANCHE_BITS];
+                    for (int s = c * per, end = Math.min(AVALANCHE_KEYS, s + per); s < end; s++) {
+                        int k = (int) mix(~(long) s);                     // independent of the "uniform" stream
+                        int h = Math.floorMod(HashFunctionRegistry.hash(kind, fn, k, buckets), buckets);
+                        for (int i = 0; i < 32; i++) {
+                            int diff = h ^ Math.floorMod(HashFunctionRegistry.hash(kind, fn, k ^ (1 << i), buckets), buckets);
+                            for (int j = 0; j < AVALANCHE_BITS; j++)
+                                if ((diff >>> j & 1) != 0) local[i * AVALANCHE_BITS + j]++;
+                        }
+                    }
+                    return local;
+                })
+                .reduce((a, b) -> { for (int i = 0; i < a.length; i++) a[i] += b[i]; return a; })
+                .orElseThrow();
+        double[][] p = new double[32][AVALANCHE_BITS];
+        for (int i = 0; i < 32; i++)
+            for (int j = 0; j < AVALANCHE_BITS; j++)
+                p[i][j] = (double) flips[i * AVALANCHE_BITS + j] / AVALANCHE_KEYS;
+        return p;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) { int t = a % b; a = b; b = t; }
+        return a;
+    }
+
+    /* ---------- output -------------------------------------------------- */
+
+    private static String csv(Row r) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%d,%.2f,%.2f,%.3f,%.4f,%.4f,%s,%d",
+                r.hash(), r.pattern(), r.keys(), r.m(), r.chi2(), r.chi2z(), r.maxLoad(), r.meanLoad(),
+                r.expectedMaxLoad(), r.avgProbe(), r.avalancheMean(), r.avalancheMax(),
+                Double.isNaN(r.coprimeFail()) ? "" : String.format(Locale.ROOT, "%.4f", r.coprimeFail()),
+                r.millis());
+    }
+
+    private static String json(List<Row> rows) {
+        StringBuilder sb = new StringBuilder("[\n");
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            sb.append(String.format(Locale.ROOT,
+                    "  {\"hash\": \"%s\", \"pattern\": \"%s\", \"keys\": %d, \"m\": %d, \"chi2\": %.1f, "
+                  + "\"chi2_z\": %.2f, \"max_load\": %d, \"mean_load\": %.2f, \"expected_max_load\": %.2f, "
+                  + "\"avg_probe\": %.3f, \"avalanche_mean_bias\": %.4f, \"avalanche_max_bias\": %.4f, "
+                  + "\"coprime_fail\": %s, \"millis\": %d, \"avalanche\": [",
+                    r.hash(), r.pattern(), r.keys(), r.m(), r.chi2(), r.chi2z(), r.maxLoad(), r.meanLoad(),
+                    r.expectedMaxLoad(), r.avgProbe(), r.avalancheMean(), r.avalancheMax(),
+                    Double.isNaN(r.coprimeFail()) ? "null" : String.format(Locale.ROOT, "%.4f", r.coprimeFail()),
+                    r.millis()));
+            for (int b = 0; b < r.avalanche().length; b++) {
+                if (b > 0) sb.append(", ");
+                sb.append(Arrays.toString(round(r.avalanche()[b])));
+            }
+            sb.append("]}").append(i + 1 < rows.size() ? ",\n" : "\n");
+        }
+        return sb.append("]").toString();
+    }
+
+    private static double[] round(double[] p) {
+        double[] out = new double[p.length];
+        for (int i = 0; i < p.length; i++) out[i] = Math.round(p[i] * 1e4) / 1e4;
+        return out;
+    }
+}
@@ -0,0 +1,301 @@
+package applications;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary command log: the same commands as a text command file, in a
+ * fraction of the space and without any text to parse on replay.
+ *
+ * Layout (little endian):
+ *   header  "HLOG", version (1 byte), key encoding (1 byte), 2 zero bytes
+ *   block*  op count (int32), payload bytes (int32), CRC32C of payload (int32), payload
+ *   op      opcode (1 byte: 1 insert, 2 delete, 3 search, 4 print), then for
+ *           keyed ops the key – a zig‑zag varint (1–5 bytes, small keys of
+ *           either sign take one or two) or a fixed int32
+ *
+ * A block holds at most {@link #BLOCK_OPS} ops, so the reader can map the
+ * file in windows and check every block before replaying it.  Replay hands
+ * the ops to the same {@link CommandReader.Handler} the text reader uses, and
+ * {@link Driver} picks the format from the header.
+ *
+ * Usage: OpLog encode &lt;commands.txt&gt; &lt;out.hlog&gt; [varint|int32]
+ *        OpLog decode &lt;in.hlog&gt; &lt;commands.txt&gt;
+ */
+public final class OpLog {
+
+    /** Ops per block. */
+    public static final int BLOCK_OPS = 1 << 16;
+
+    static final byte INSERT = 1, DELETE = 2, SEARCH = 3, PRINT = 4;
+
+    private static final byte[] MAGIC   = {'H', 'L', 'O', 'G'};
+    private static final byte   VERSION = 1;
+    private static final int    HEADER  = 8;
+    private static final int    BLOCK_HEADER = 12;
+    private static final int    MAX_PAYLOAD  = BLOCK_OPS * 6;             // opcode + 5‑byte varint
+    private static final int    WINDOW  = 64 << 20;
+
+    /** How keys are stored. */
+    public enum KeyEncoding { VARINT, INT32 }
+
+    private OpLog() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || !(args[0].equals("encode") || args[0].equals("decode"))) {
+            System.out.println("Usage: OpLog encode <commands.txt> <out.hlog> [varint|int32]");
+            System.out.println("       OpLog decode <in.hlog> <commands.txt>");
+            return;
+        }
+        Path in = Path.of(args[1]), out = Path.of(args[2]);
+        if (args[0].equals("encode")) {
+            KeyEncoding enc = args.length > 3 ? KeyEncoding.valueOf(args[3].toUpperCase(Locale.ROOT))
+                                              : KeyEncoding.VARINT;
+            Encoder encoder = new Encoder(out, enc);
+            try (encoder) {
+                CommandReader.read(in, encoder);
+            }
+            System.out.printf("%d ops, %d invalid lines skipped: %d -> %d bytes%n",
+                    encoder.ops(), encoder.skipped(), Files.size(in), encoder.bytes());
+        } else {
+            try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.US_ASCII)) {
+                System.out.printf("%d ops%n", replay(in, new Decoder(w)));
+            }
+        }
+    }
+
+    /** True if {@code file} starts with the op‑log header. */
+    public static boolean isOpLog(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(MAGIC.length);
+            while (head.hasRemaining() && ch.read(head) > 0) { }
+            return !head.hasRemaining() && Arrays.equals(head.array(), MAGIC);
+        }
+    }
+
+    /* ---------- writing ------------------------------------------------- */
+
+    /** Handler that appends every command it receives to an op‑log; invalid lines are counted and dropped. */
+    public static final class Encoder implements CommandReader.Handler, Closeable {
+        private final FileChannel ch;
+        private final KeyEncoding enc;
+        private final ByteBuffer  block = ByteBuffer.allocate(BLOCK_HEADER + MAX_PAYLOAD).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C      crc   = new CRC32C();
+        private int  inBlock;
+        private long ops, skipped, bytes;
+
+        public Encoder(Path out, KeyEncoding enc) throws IOException {
+            this.ch  = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+            this.enc = enc;
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            header.put(MAGIC).put(VERSION).put((byte) enc.ordinal()).put((byte) 0).put((byte) 0).flip();
+            write(header);
+            block.position(BLOCK_HEADER);
+        }
+
+        @Override public void insert(int key) { op(INSERT); key(key); }
+        @Override public void delete(int key) { op(DELETE); key(key); }
+        @Override public void search(int key) { op(SEARCH); key(key); }
+        @Override public void print()         { op(PRINT); }
+        @Override public void invalid(String message) { skipped++; }
+
+        private void op(byte code) {
+            if (inBlock == BLOCK_OPS) flushBlock();
+            block.put(code);
+            inBlock++;
+            ops++;
+        }
+
+        private void key(int key) {
+            if (enc == KeyEncoding.INT32) {
+                block.putInt(key);
+                return;
+            }
+            int z = (key << 1) ^ (key >> 31);                    // zig‑zag: small |key| → small z
+            while ((z & ~0x7F) != 0) {
+                block.put((byte) (z & 0x7F | 0x80));
+                z >>>= 7;
+            }
+            block.put((byte) z);
+        }
+
+        private void flushBlock() {
+            if (inBlock == 0) return;
+            int payload = block.position() - BLOCK_HEADER;
+            crc.reset();
+            crc.update(block.array(), BLOCK_HEADER, payload);
+            block.putInt(0, inBlock).putInt(4, payload).putInt(8, (int) crc.getValue());
+            block.flip();
+            try {
+                write(block);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            block.clear().position(BLOCK_HEADER);
+            inBlock = 0;
+        }
+
+        private void write(ByteBuffer buf) throws IOException {
+            bytes += buf.remaining();
+            while (buf.hasRemaining()) ch.write(buf);
+        }
+
+        public long ops()     { return ops; }
+        public long skipped() { return skipped; }
+        public long bytes()   { return bytes; }
+
+        @Override public void close() throws IOException {
+            try {
+                flushBlock();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                ch.close();
+            }
+        }
+    }
+
+    /** Handler that writes the commands back out as text. */
+    static final class Decoder implements CommandReader.Handler {
+        private final Writer out;
+
+        Decoder(Writer out) { this.out = out; }
+
+        @Override public void insert(int key) { line("insert ", key); }
+        @Override public void delete(int key) { line("delete ", key); }
+        @Override public void search(int key) { line("search ", key); }
+        @Override public void print()         { line("print", null); }
+        @Override public void invalid(String message) { }
+
+        private void line(String command, Integer key) {
+            try {
+                out.write(command);
+                if (key != null) out.write(Integer.toString(key));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /* ---------- replay -------------------------------------------------- */
+
+    /**
+     * Checks and replays every block of {@code file} into {@code handler};
+     * returns the number of ops.  A truncated block or a checksum mismatch
+     * stops the replay with an IOException before any op of that block is
+     * applied; {@code handler.end()} still runs first, so ops of the earlier
+     * blocks are not lost in a batching handler.
+     */
+    public static long replay(Path file, CommandReader.Handler handler) throws IOException {
+        long ops = 0;
+        CRC32C crc = new CRC32C();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            KeyEncoding enc = header(ch, size);
+            long pos = HEADER;
+            while (pos < size) {
+                int len = (int) Math.min(WINDOW, size - pos);
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+                buf.order(ByteOrder.LITTLE_ENDIAN);
+                boolean last = pos + len == size;
+                int at = 0;
+                while (at < len) {
+                    if (len - at < BLOCK_HEADER) {
+                        if (last) throw new IOException("truncated block at offset " + (pos + at));
+                        break;                                     // header runs past the window: remap
+                    }
+                    int count   = buf.getInt(at);
+                    int payload = buf.getInt(at + 4);
+                    if (count < 1 || count > BLOCK_OPS || payload < count || payload > MAX_PAYLOAD)
+                        throw new IOException("corrupt block header at offset " + (pos + at));
+                    int start = at + BLOCK_HEADER;
+                    if (start + payload > len) {
+                        if (last) throw new IOException("truncated block at offset " + (pos + at));
+                        break;                                     // payload runs past the window: remap
+                    }
+                    crc.reset();
+                    crc.update(buf.slice(start, payload));
+                    if ((int) crc.getValue() != buf.getInt(at + 8))
+                        throw new IOException("checksum mismatch in block at offset " + (pos + at));
+                    replayBlock(buf, start, start + payload, count, enc, handler, pos + at);
+                    ops += count;
+                    at = start + payload;
+                }
+                if (at == 0)
+                    throw new IOException("block larger than the map window at offset " + pos);
+                pos += at;
+            }
+        } catch (IOException e) {              // bad input: still hand over what came before it
+            try {
+                handler.end();
+            } catch (RuntimeException | Error suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        handler.end();
+        return ops;
+    }
+
+    private static KeyEncoding header(FileChannel ch, long size) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(HEADER);
+        while (head.hasRemaining() && ch.read(head, head.position()) > 0) { }
+        byte[] h = head.array();
+        if (size < HEADER || h[0] != MAGIC[0] || h[1] != MAGIC[1] || h[2] != MAGIC[2] || h[3] != MAGIC[3])
+            throw new IOException("not an op-log (no HLOG header)");
+        if (h[4] != VERSION)
+            throw new IOException("unsupported op-log version " + h[4]);
+        if (h[5] < 0 || h[5] >= KeyEncoding.values().length)
+            throw new IOException("unknown key encoding " + h[5]);
+        return KeyEncoding.values()[h[5]];
+    }
+
+    private static void replayBlock(MappedByteBuffer buf, int at, int end, int count, KeyEncoding enc,
+                                    CommandReader.Handler handler, long offset) throws IOException {
+        for (int n = 0; n < count; n++) {
+            if (at >= end) throw new IOException("block at offset " + offset + " ends early");
+            byte code = buf.get(at++);
+            if (code == PRINT) {
+                handler.print();
+                continue;
+            }
+            int key;
+            if (enc == KeyEncoding.INT32) {
+                key = buf.getInt(at);
+                at += 4;
+            } else {
+                int z = 0, shift = 0;
+                byte b;
+                do {
+                    b  = buf.get(at++);
+                    z |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0 && shift < 35);
+                key = (z >>> 1) ^ -(z & 1);
+            }
+            switch (code) {
+                case INSERT -> handler.insert(key);
+                case DELETE -> handler.delete(key);
+                case SEARCH -> handler.search(key);
+                default -> throw new IOException("bad opcode " + code + " in block at offset " + offset);
+            }
+        }
+        if (at != end) throw new IOException("block at offset " + offset + " has trailing bytes");
+    }
+}
@@ -0,0 +1,184 @@
+package applications;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single‑producer / single‑consumer ring of decoded command batches, the
+ * hand‑off between a parsing thread and a thread that applies commands.
+ *
+ * The producer side is a {@link CommandReader.Handler}: ops are appended to
+ * the batch at {@code tail}, which is published by advancing {@code tail}
+ * once full (or on {@link #sync} / {@link #end}).  The consumer applies each
+ * published batch in order and frees it by advancing {@code head}.  Neither
+ * side takes a lock and the {@code slots} batches are preallocated and
+ * reused, so the steady state allocates nothing.  When every slot is
+ * published and unconsumed the producer waits (backpressure), so at most
+ * slots × batch ops are ever in flight.  Invalid lines travel as ops too,
+ * keeping their messages in place.
+ */
+final class OpRing implements CommandReader.Handler {
+
+    /** Default ops per batch. */
+    static final int DEFAULT_BATCH = 1024;
+    /** Default batches in the ring (a power of two). */
+    static final int DEFAULT_SLOTS = 64;
+
+    private static final byte INSERT = 0, DELETE = 1, SEARCH = 2, PRINT = 3, INVALID = 4, SYNC = 5;
+    private static final int  SPINS  = 100;
+
+    /** A reusable run of decoded ops; for INVALID the key indexes {@code messages}. */
+    private static final class Batch {
+        final byte[] ops;
+        final int[]  keys;
+        String[] messages = new String[0];
+        int n, invalid;
+
+        Batch(int size) {
+            ops  = new byte[size];
+            keys = new int[size];
+        }
+    }
+
+    private final Batch[]    ring;
+    private final int        mask;
+    private final AtomicLong head = new AtomicLong();     // next batch to apply
+    private final AtomicLong tail = new AtomicLong();     // batch being filled
+    private volatile boolean done;                        // producer finished (tail is final)
+    private volatile boolean stopped;                     // consumer gave up
+    private Batch cur;                                    // producer only
+
+    OpRing(int batch, int slots) {
+        if (batch < 1)
+            throw new IllegalArgumentException("batch size must be positive: " + batch);
+        if (slots < 2 || Integer.bitCount(slots) != 1)
+            throw new IllegalArgumentException("ring slots must be a power of two >= 2: " + slots);
+        ring = new Batch[slots];
+        for (int i = 0; i < slots; i++) ring[i] = new Batch(batch);
+        mask = slots - 1;
+    }
+
+    /* ---------- producer ----------------------------------------------- */
+
+    @Override public void insert(int key) { add(INSERT, key); }
+    @Override public void delete(int key) { add(DELETE, key); }
+    @Override public void search(int key) { add(SEARCH, key); }
+    @Override public void print()         { add(PRINT, 0); }
+
+    @Override public void invalid(String message) {
+        Batch b = batch();
+        if (b.invalid == b.messages.length)
+            b.messages = Arrays.copyOf(b.messages, Math.max(4, 2 * b.invalid));
+        b.messages[b.invalid] = message;
+        add(INVALID, b.invalid++);
+    }
+
+    /** Publishes what is queued plus a marker on which the consumer calls its handler's {@code end()}. */
+    void sync() {
+        add(SYNC, 0);
+        if (cur != null) publish();
+    }
+
+    /** Publishes the last batch; the consumer returns once it has applied it. */
+    @Override public void end() {
+        if (cur != null && cur.n > 0) publish();
+        done = true;
+    }
+
+    /** Lets the consumer return without publishing anything more (the producer failed). */
+    void abandon() {
+        done = true;
+    }
+
+    /** True once everything published has been applied (producer side, after {@link #sync}). */
+    boolean drained() {
+        return head.get() == tail.get();
+    }
+
+    /** Waits until {@link #drained}; throws if the consumer has stopped. */
+    void awaitDrained() {
+        for (int spins = 0; !drained(); spins++) {
+            if (stopped) throw new IllegalStateException("applier stopped");
+            idle(spins);
+        }
+    }
+
+    private Batch batch() {
+        if (cur == null) cur = claim();
+        return cur;
+    }
+
+    private void add(byte op, int key) {
+        Batch b = batch();
+        b.ops[b.n]  = op;
+        b.keys[b.n] = key;
+        if (++b.n == b.ops.length) publish();
+    }
+
+    private void publish() {
+        cur = null;
+        tail.lazySet(tail.get() + 1);          // release: the batch's contents are visible first
+    }
+
+    /** The batch at tail, once the consumer has freed it. */
+    private Batch claim() {
+        long t = tail.get();
+        for (int spins = 0; t - head.get() > mask; spins++) {        // ring full: backpressure
+            if (stopped) throw new IllegalStateException("applier stopped");
+            idle(spins);
+        }
+        Batch b = ring[(int) t & mask];
+        b.n = 0;
+        b.invalid = 0;
+        return b;
+    }
+
+    /* ---------- consumer ----------------------------------------------- */
+
+    /**
+     * Applies every published batch to {@code target} in order until the
+     * producer has ended; does not call {@code target.end()} for that.
+     */
+    void drainTo(CommandReader.Handler target) {
+        drainTo(target, () -> { });
+    }
+
+    /** Same, running {@code afterBatch} on the consumer thread after each applied batch. */
+    void drainTo(CommandReader.Handler target, Runnable afterBatch) {
+        try {
+            long h = head.get();
+            for (int spins = 0; ; ) {
+                if (h == tail.get()) {
+                    if (done && h == tail.get()) return;
+                    idle(spins++);
+                    continue;
+                }
+                spins = 0;
+                Batch b = ring[(int) h & mask];
+                for (int i = 0; i < b.n; i++) {
+                    switch (b.ops[i]) {
+                        case INSERT -> target.insert(b.keys[i]);
+                        case DELETE -> target.delete(b.keys[i]);
+                        case SEARCH -> target.search(b.keys[i]);
+                        case PRINT  -> target.print();
+                        case SYNC   -> target.end();
+                        default     -> target.invalid(b.messages[b.keys[i]]);
+                    }
+                }
+                Arrays.fill(b.messages, 0, b.invalid, null);
+                afterBatch.run();
+                head.lazySet(++h);                 // hand the batch back to the producer
+            }
+        } catch (RuntimeException | Error e) {
+            stopped = true;
+            throw e;
+        }
+    }
+
+    /** Spin briefly, then back off to short parks. */
+    private static void idle(int spins) {
+        if (spins < SPINS) Thread.onSpinWait();
+        else               LockSupport.parkNanos(20_000);
+    }
+}
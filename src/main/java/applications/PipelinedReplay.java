@@ -0,0 +1,56 @@
+package applications;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Two‑stage replay: a reader thread parses the command file into batches of
+ * decoded ops, and the calling thread applies them to the table.
+ *
+ * The stages meet in an {@link OpRing}: no locks, batches reused, and the
+ * reader waits whenever {@code slots} batches are queued (backpressure).
+ * The applier feeds every op, in file order, to the same handler the serial
+ * mode uses, so output, final table and statistics are identical.
+ */
+final class PipelinedReplay {
+
+    private PipelinedReplay() { }
+
+    /** Replays {@code file} into {@code target}, parsing on a second thread. */
+    static void run(Path file, CommandReader.Handler target, int batch, int slots) throws IOException {
+        OpRing ring = new OpRing(batch, slots);
+        Throwable[] failure = new Throwable[1];
+        Thread reader = new Thread(() -> {
+            try {
+                Driver.replay(file, ring);                 // ends the ring
+            } catch (Throwable t) {
+                failure[0] = t;
+                ring.abandon();
+            }
+        }, "replay-reader");
+        reader.setDaemon(true);
+        reader.start();
+        ring.drainTo(target);
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            target.end();                       // also after a reader failure: keep what came before it
+        } catch (RuntimeException | Error e) {
+            if (failure[0] == null) throw e;
+            failure[0].addSuppressed(e);
+        }
+        rethrow(failure[0]);
+    }
+
+    /** Rethrows a failure from another stage, unwrapping I/O errors. */
+    static void rethrow(Throwable t) throws IOException {
+        if (t instanceof IOException e) throw e;
+        if (t instanceof UncheckedIOException e) throw e.getCause();
+        if (t instanceof RuntimeException e) throw e;
+        if (t instanceof Error e) throw e;
+    }
+}
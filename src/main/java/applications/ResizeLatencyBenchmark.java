@@ -0,0 +1,103 @@
+package applications;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import datastructures.HashTable;
+import datastructures.PackedChainingHashTable;
+import datastructures.ProbeType;
+import datastructures.ProbingHashTable;
+import datastructures.ResizeMode;
+import datastructures.SeparateChainingHashTable;
+
+/**
+ * Insert‑latency benchmark for growing tables: one‑shot vs incremental resize.
+ *
+ * Every insert is timed on its own, so the rehash pause shows up in the tail
+ * (p99.9 / max) rather than being averaged away.  Each configuration runs a
+ * warm‑up pass first, then a measured pass on a fresh table.
+ *
+ * Usage: ResizeLatencyBenchmark [keys=2000000] [initialSize=16] [hashCode=c]
+ * Run with a fixed heap (e.g. -Xms4g -Xmx4g) so heap growth does not masquerade
+ * as rehash pauses.
+ *
+ * Prints a TSV: Table\tMode\tResizes\tMean(ns)\tP99(ns)\tP99.9(ns)\tMax(ns)\tTotal(ms)
+ */
+public class ResizeLatencyBenchmark {
+
+    public static void main(String[] args) {
+        int  n       = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int  initial = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        char code    = args.length > 2 ? args[2].charAt(0) : 'c';
+
+        int[] keys = new Random(42).ints(n).toArray();
+        long[] nanos = new long[n];
+
+        System.out.printf("Table\tMode\tResizes\tMean(ns)\tP99(ns)\tP99.9(ns)\tMax(ns)\tTotal(ms)%n");
+        for (String style : new String[]{"linear", "double", "chain", "packed"}) {
+            for (ResizeMode mode : new ResizeMode[]{ResizeMode.ONE_SHOT, ResizeMode.INCREMENTAL}) {
+                run(style, mode, initial, code, keys, nanos);          // warm‑up
+                HashTable t = run(style, mode, initial, code, keys, nanos);
+                report(style, mode, t, nanos);
+            }
+        }
+    }
+
+    private static HashTable run(String style, ResizeMode mode, int initial, char code,
+                                 int[] keys, long[] nanos) {
+        HashTable t = create(style, mode, initial, code);
+        for (int i = 0; i < keys.length; i++) {
+            long t0 = System.nanoTime();
+            t.insert(keys[i]);
+            nanos[i] = System.nanoTime() - t0;
+        }
+        return t;
+    }
+
+    private static HashTable create(String style, ResizeMode mode, int initial, char code) {
+        return switch (style) {
+            case "chain" -> {
+                SeparateChainingHashTable t = new SeparateChainingHashTable(initial, code);
+                t.setResizeMode(mode);
+                yield t;
+            }
+            case "packed" -> {
+                PackedChainingHashTable t = new PackedChainingHashTable(initial, code);
+                t.setResizeMode(mode);
+                yield t;
+            }
+            case "double" -> {
+                ProbingHashTable t = new ProbingHashTable(initial, ProbeType.DOUBLE_HASHING, code);
+                t.setResizeMode(mode);
+                yield t;
+            }
+            default -> {
+                ProbingHashTable t = new ProbingHashTable(initial, ProbeType.LINEAR, code);
+                t.setResizeMode(mode);
+                yield t;
+            }
+        };
+    }
+
+    private static void report(String style, ResizeMode mode, HashTable t, long[] nanos) {
+        long total = 0;
+        for (long x : nanos) total += x;
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int resizes = (t instanceof ProbingHashTable ph) ? ph.getResizes()
+                    : (t instanceof SeparateChainingHashTable sch) ? sch.getResizes()
+                    : (t instanceof PackedChainingHashTable pch) ? pch.getResizes() : 0;
+        System.out.printf("%s\t%s\t%d\t%.1f\t%d\t%d\t%d\t%.1f%n",
+                style, mode, resizes,
+                (double) total / nanos.length,
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                sorted[sorted.length - 1],
+                total / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, idx)];
+    }
+}
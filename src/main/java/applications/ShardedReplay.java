@@ -0,0 +1,187 @@
+package applications;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.function.BiFunction;
+
+import datastructures.HashFunctions;
+import datastructures.HashTable;
+
+/**
+ * Multi‑core replay: the command stream is split by key across N shard
+ * tables, each owned by one worker thread, so no table needs to be
+ * thread‑safe.
+ *
+ * The calling thread parses the file and routes every keyed op to the
+ * {@link OpRing} of shard {@link #shardOf}(key).  All ops on one key go to
+ * the same ring and are applied in file order, so each key ends in the state
+ * serial replay leaves it in; ops on different keys may run in any order.
+ *
+ * Each shard's handler and table write to that shard's own
+ * {@link PrintStream}, backed by a buffer; nothing touches {@code System.out}.
+ * A worker copies its buffer to the console at the end of any batch that
+ * leaves more than {@link #OUTPUT_CAP} bytes in it, so memory stays bounded
+ * however long the log runs without a {@code print}.
+ *
+ * {@code print} is a global barrier: every ring is flushed and drained, the
+ * output each shard still holds is written out shard by shard, then every
+ * shard table is printed followed by the statistics summed over all shards.
+ * Invalid lines are reported straight away by the parsing thread.
+ */
+final class ShardedReplay implements CommandReader.Handler {
+
+    /** Bytes a shard may hold past a batch before it copies them to the console. */
+    static final int OUTPUT_CAP = 64 * 1024;
+
+    private final HashTable[] shards;
+    private final OpRing[]    rings;
+    private final Thread[]    workers;
+    private final ByteArrayOutputStream[] output;
+    private final PrintStream[] streams;          // shard i's handler and table write here
+    private final Throwable[] failures;
+    private final PrintStream console;
+
+    private ShardedReplay(HashTable[] shards, BiFunction<HashTable, PrintStream, CommandReader.Handler> handlers,
+                          int batch, int slots, PrintStream console) {
+        int n = shards.length;
+        this.shards   = shards;
+        this.rings    = new OpRing[n];
+        this.workers  = new Thread[n];
+        this.output   = new ByteArrayOutputStream[n];
+        this.streams  = new PrintStream[n];
+        this.failures = new Throwable[n];
+        this.console  = console;
+        for (int i = 0; i < n; i++) {
+            int shard = i;
+            rings[i]   = new OpRing(batch, slots);
+            output[i]  = new ByteArrayOutputStream();
+            streams[i] = new PrintStream(output[i], false);
+            CommandReader.Handler handler = handlers.apply(shards[i], streams[i]);
+            workers[i] = new Thread(() -> {
+                try {
+                    rings[shard].drainTo(handler, () -> {
+                        if (output[shard].size() > OUTPUT_CAP) flushOutput(shard);
+                    });
+                    handler.end();
+                } catch (Throwable t) {
+                    failures[shard] = t;
+                }
+            }, "replay-shard-" + i);
+            workers[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Replays {@code file} across {@code shards}; {@code handlers} wraps a
+     * shard table in the handler serial replay would use for it, writing to
+     * the given stream.
+     */
+    static void run(Path file, HashTable[] shards, BiFunction<HashTable, PrintStream, CommandReader.Handler> handlers,
+                    int batch, int slots) throws IOException {
+        if (shards.length < 1)
+            throw new IllegalArgumentException("need at least one shard");
+        PrintStream console = System.out;
+        ShardedReplay replay = new ShardedReplay(shards, handlers, batch, slots, console);
+        try {
+            for (Thread w : replay.workers) w.start();
+            Throwable parse = null;
+            try {
+                Driver.replay(file, replay);                   // ends every ring
+            } catch (Throwable t) {
+                parse = t;
+            }
+            for (OpRing ring : replay.rings) ring.abandon();
+            replay.join();
+            replay.flushOutput();
+            for (Throwable t : replay.failures) PipelinedReplay.rethrow(t);   // a shard failing is the root cause
+            PipelinedReplay.rethrow(parse);
+        } finally {
+            for (HashTable t : shards) t.setOutput(console);
+        }
+    }
+
+    /** Shard of {@code key}: its bits are mixed first, so the tables' own hash sees unrelated keys per shard. */
+    static int shardOf(int key, int shards) {
+        int h = key;
+        h ^= h >>> 16;  h *= 0x85EBCA6B;
+        h ^= h >>> 13;  h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return HashFunctions.fastRange(h, shards);
+    }
+
+    /* ---------- routing (parsing thread) -------------------------------- */
+
+    @Override public void insert(int key) { rings[shardOf(key, rings.length)].insert(key); }
+    @Override public void delete(int key) { rings[shardOf(key, rings.length)].delete(key); }
+    @Override public void search(int key) { rings[shardOf(key, rings.length)].search(key); }
+
+    @Override public void invalid(String message) {
+        console.println(message);
+    }
+
+    @Override public void print() {
+        barrier();
+        flushOutput();
+        long size = 0, insertions = 0, collisions = 0, duplicates = 0;
+        double probes = 0;
+        for (int i = 0; i < shards.length; i++) {
+            console.printf("%n=== shard %d of %d ===%n", i + 1, shards.length);
+            shards[i].print();                         // into the shard's stream; workers are idle
+            flushOutput(i);
+            size       += shards[i].size();
+            insertions += shards[i].getInsertions();
+            collisions += shards[i].getCollisions();
+            duplicates += shards[i].getDuplicates();
+            probes     += shards[i].averageProbes() * shards[i].getInsertions();
+        }
+        console.printf("%n=== all %d shards ===%n", shards.length);
+        console.printf("keys        : %d%n", size);
+        console.printf("insertions  : %d%n", insertions);
+        console.printf("collisions  : %d%n", collisions);
+        console.printf("duplicates  : %d%n", duplicates);
+        console.printf("avg probes  : %.3f%n", insertions == 0 ? 0.0 : probes / insertions);
+    }
+
+    @Override public void end() {
+        for (OpRing ring : rings) ring.end();
+    }
+
+    /** Flushes every shard's pending run and waits until all of them are applied. */
+    private void barrier() {
+        for (OpRing ring : rings) ring.sync();
+        for (OpRing ring : rings) ring.awaitDrained();
+    }
+
+    /** Writes what every shard holds, shard by shard. */
+    private void flushOutput() {
+        for (int i = 0; i < output.length; i++) flushOutput(i);
+    }
+
+    /**
+     * Copies shard {@code i}'s buffer to the console.  Runs on the shard's
+     * worker after a batch, or on the parsing thread while the worker is
+     * idle; the console lock keeps each copy contiguous.
+     */
+    private void flushOutput(int i) {
+        streams[i].flush();
+        byte[] bytes = output[i].toByteArray();
+        output[i].reset();
+        synchronized (console) {
+            console.write(bytes, 0, bytes.length);
+            console.flush();
+        }
+    }
+
+    private void join() {
+        for (Thread w : workers) {
+            try {
+                w.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package applications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import datastructures.ConcurrentChainingHashTable;
+import datastructures.HashTable;
+
+/**
+ * Lock‑stripe scaling for {@link ConcurrentChainingHashTable}.
+ *
+ * Every worker replays its own Driver‑style command stream ("insert k",
+ * "search k", "delete k") against one shared table: 80 % search, 10 % insert,
+ * 10 % delete over a common random key pool.  The streams are generated and
+ * parsed up front so only table work is timed.  Stripe counts 1 (a global lock)
+ * through one per bucket are crossed with 1, 2, 4 … N threads; each cell is
+ * run once as warm‑up and once measured.
+ *
+ * Usage: StripedChainingBenchmark [maxThreads=#cores] [buckets=65536]
+ *                                 [opsPerThread=2000000] [hashCode=c]
+ *
+ * Prints a TSV: Stripes\tThreads\tOps\tTime(ms)\tMops/s
+ */
+public class StripedChainingBenchmark {
+
+    private static final int SEARCH = 0, INSERT = 1, DELETE = 2;
+
+    public static void main(String[] args) throws InterruptedException {
+        int  maxThreads = args.length > 0 ? Integer.parseInt(args[0])
+                                          : Runtime.getRuntime().availableProcessors();
+        int  buckets    = args.length > 1 ? Integer.parseInt(args[1]) : 65_536;
+        int  perThread  = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+        char code       = args.length > 3 ? args[3].charAt(0) : 'c';
+
+        int[] pool = new Random(42).ints(buckets).toArray();    // ~1 key per bucket
+        int[][] ops = new int[maxThreads][], keys = new int[maxThreads][];
+        for (int t = 0; t < maxThreads; t++) {
+            List<String[]> stream = commandStream(pool, perThread, new Random(7 + t));
+            ops[t]  = new int[stream.size()];
+            keys[t] = new int[stream.size()];
+            parse(stream, ops[t], keys[t]);
+        }
+
+        System.out.printf("Stripes\tThreads\tOps\tTime(ms)\tMops/s%n");
+        for (int stripes = 1; stripes <= buckets; stripes *= 16) {
+            for (int threads = 1; threads <= maxThreads; threads = next(threads, maxThreads)) {
+                run(create(buckets, code, stripes, pool), threads, ops, keys);     // warm‑up
+                long nanos = run(create(buckets, code, stripes, pool), threads, ops, keys);
+                long total = (long) threads * perThread;
+                System.out.printf("%d\t%d\t%d\t%.1f\t%.2f%n",
+                        stripes, threads, total, nanos / 1e6, total * 1e3 / nanos);
+            }
+        }
+    }
+
+    /** 1, 2, 4, … and always the requested maximum last. */
+    private static int next(int threads, int max) {
+        return (threads < max && threads * 2 > max) ? max : threads * 2;
+    }
+
+    /** A command list in the shape {@link ConfigHandler#readCommands} returns. */
+    private static List<String[]> commandStream(int[] pool, int n, Random rnd) {
+        List<String[]> commands = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int r = rnd.nextInt(10);
+            String cmd = r < 8 ? "search" : r == 8 ? "insert" : "delete";
+            commands.add(new String[]{cmd, Integer.toString(pool[rnd.nextInt(pool.length)])});
+        }
+        return commands;
+    }
+
+    private static void parse(List<String[]> commands, int[] ops, int[] keys) {
+        for (int i = 0; i < commands.size(); i++) {
+            String[] parts = commands.get(i);
+            ops[i] = switch (parts[0]) {
+                case "insert" -> INSERT;
+                case "delete" -> DELETE;
+                case "search" -> SEARCH;
+                default -> throw new IllegalArgumentException("Unknown command: " + parts[0]);
+            };
+            keys[i] = Integer.parseInt(parts[1]);
+        }
+    }
+
+    private static HashTable create(int buckets, char code, int stripes, int[] pool) {
+        HashTable t = new ConcurrentChainingHashTable(buckets, code, stripes);
+        for (int i = 0; i < pool.length; i += 2) t.insert(pool[i]);
+        return t;
+    }
+
+    /** Replays stream t on thread t for every thread; returns wall time in ns. */
+    private static long run(HashTable table, int threads, int[][] ops, int[][] keys)
+            throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int[] op = ops[t], key = keys[t];
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < op.length; i++) {
+                    switch (op[i]) {
+                        case INSERT -> table.insert(key[i]);
+                        case DELETE -> table.delete(key[i]);
+                        default     -> table.find(key[i]);
+                    }
+                }
+            });
+        }
+        long t0 = System.nanoTime();
+        for (Thread w : workers) w.start();
+        for (Thread w : workers) w.join();
+        return System.nanoTime() - t0;
+    }
+}
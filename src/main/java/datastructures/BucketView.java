@@ -0,0 +1,16 @@
+package datastructures;
+
+import java.util.Collection;
+
+/**
+ * Read‑only bucket access for chaining tables, so the GUI can draw any of
+ * them as one column per bucket without knowing how a bucket is stored.
+ */
+public interface BucketView {
+
+    /** Current number of buckets m. */
+    int capacity();
+
+    /** Keys in bucket {@code i} (empty if none); callers must not modify it. */
+    Collection<Integer> bucket(int i);
+}
@@ -0,0 +1,206 @@
+package datastructures;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread‑safe separate chaining with one lock per stripe of buckets.
+ *
+ * Bucket i is guarded by lock {@code i % stripes}, so writers on different
+ * stripes never wait for each other; one stripe gives a single global lock,
+ * one stripe per bucket gives per‑bucket locking.
+ *
+ * Chains are immutable singly linked nodes published through an
+ * {@link AtomicReferenceArray}.  Insert pushes a new head; delete copies the
+ * nodes in front of the removed one and links the copy to the untouched tail.
+ * A reader therefore always walks a complete, unchanging chain and needs no
+ * lock at all.
+ *
+ * The bucket count is fixed, as in {@link SeparateChainingHashTable}'s default
+ * mode, and statistics are {@link LongAdder}s so counting never contends.
+ */
+public class ConcurrentChainingHashTable implements HashTable, BucketView {
+
+    /** Default lock stripes (rounded down to the bucket count). */
+    public static final int DEFAULT_STRIPES = 64;
+
+    /** Immutable chain node; a published chain is never modified. */
+    private static final class Node {
+        final int  key;
+        final Node next;
+
+        Node(int key, Node next) {
+            this.key  = key;
+            this.next = next;
+        }
+    }
+
+    private final AtomicReferenceArray<Node> buckets;
+    private final ReentrantLock[] locks;
+    private final HashFunction hashFn;
+    private final int hashKind;
+
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder deletions  = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    private volatile int verbose = 0;
+    private volatile PrintStream out = System.out;  // verbose messages and print()
+
+    public ConcurrentChainingHashTable(int size, char hashCode) {
+        this(size, hashCode, DEFAULT_STRIPES);
+    }
+
+    public ConcurrentChainingHashTable(int size, HashFunction hash) {
+        this(size, hash, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param size     number of buckets m
+     * @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode}
+     * @param stripes  number of bucket locks (capped at m)
+     */
+    public ConcurrentChainingHashTable(int size, char hashCode, int stripes) {
+        this(size, HashFunctionRegistry.forCode(hashCode), stripes);
+    }
+
+    public ConcurrentChainingHashTable(int size, HashFunction hash, int stripes) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        if (stripes < 1)
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        this.buckets = new AtomicReferenceArray<>(size);
+        this.locks   = new ReentrantLock[Math.min(stripes, size)];
+        for (int i = 0; i < locks.length; i++) locks[i] = new ReentrantLock();
+        this.hashFn  = hash;
+        this.hashKind = HashFunctionRegistry.kindOf(hash);
+    }
+
+    /** Number of buckets m. */
+    @Override public int capacity() { return buckets.length(); }
+
+    /** Number of lock stripes. */
+    public int stripes() { return locks.length; }
+
+    /** Snapshot of bucket {@code i}, newest key first (for Board / print). */
+    @Override public List<Integer> bucket(int i) {
+        List<Integer> keys = new ArrayList<>();
+        for (Node n = buckets.get(i); n != null; n = n.next) keys.add(n.key);
+        return keys;
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) {
+        int k   = key;
+        int idx = bucketOf(k);
+        ReentrantLock lock = locks[idx % locks.length];
+        lock.lock();
+        try {
+            Node head = buckets.get(idx);
+            if (contains(head, k)) {
+                duplicates.increment();
+                return false;
+            }
+            if (head != null) collisions.increment();
+            buckets.set(idx, new Node(k, head));
+        } finally {
+            lock.unlock();
+        }
+        insertions.increment();
+        if (verbose > 0)
+            out.printf("Insert %-5d -> slot %-3d%n", k, idx);
+        return true;
+    }
+
+    @Override public boolean delete(Integer key) {
+        int k   = key;
+        int idx = bucketOf(k);
+        ReentrantLock lock = locks[idx % locks.length];
+        boolean removed;
+        lock.lock();
+        try {
+            Node head = buckets.get(idx);
+            Node rest = without(head, k);
+            removed = rest != head;
+            if (removed) buckets.set(idx, rest);
+        } finally {
+            lock.unlock();
+        }
+        if (removed) deletions.increment();
+        if (verbose > 0)
+            out.printf("Delete %-5d : %s%n", k, removed ? "OK" : "not found");
+        return removed;
+    }
+
+    @Override public Integer find(Integer key) {
+        int k = key;
+        boolean found = contains(buckets.get(bucketOf(k)), k);
+        if (verbose > 1)
+            out.printf("Search %-5d : %s%n", k, found ? "found" : "not found");
+        return found ? key : null;
+    }
+
+    @Override public int size() { return (int) (insertions.sum() - deletions.sum()); }
+
+    @Override public double averageProbes() {
+        long ins = insertions.sum();
+        return ins == 0 ? 0.0 : 1.0 + (double) collisions.sum() / ins;
+    }
+
+    // ---------- chains -------------------------------------------------
+
+    private int bucketOf(int key) {
+        return Math.floorMod(HashFunctionRegistry.hash(hashKind, hashFn, key, buckets.length()), buckets.length());   // fibonacci is negative for k < 0
+    }
+
+    private static boolean contains(Node n, int key) {
+        for (; n != null; n = n.next)
+            if (n.key == key) return true;
+        return false;
+    }
+
+    /**
+     * Chain {@code head} without {@code key}: the nodes before it are copied and
+     * the tail after it is shared.  Returns {@code head} itself if key is absent.
+     */
+    private static Node without(Node head, int key) {
+        int before = 0;                         // nodes in front of the match
+        Node hit = head;
+        while (hit != null && hit.key != key) {
+            hit = hit.next;
+            before++;
+        }
+        if (hit == null) return head;
+        int[] prefix = new int[before];
+        Node n = head;
+        for (int i = 0; i < before; i++, n = n.next) prefix[i] = n.key;
+        Node rest = hit.next;
+        for (int i = before - 1; i >= 0; i--) rest = new Node(prefix[i], rest);
+        return rest;
+    }
+
+    @Override public void print() {
+        out.println("\nCurrent state of the hash table:");
+        for (int i = 0; i < buckets.length(); i++) {
+            List<Integer> b = bucket(i);
+            out.printf("Slot %2d: %s%n", i, b.isEmpty() ? "empty" : b);
+        }
+        long ins = insertions.sum(), col = collisions.sum();
+        out.printf("%nTotal collisions : %d%n", col);
+        out.printf("Total insertions : %d%n", ins);
+        out.printf("Collision rate   : %.2f%n", ins == 0 ? 0.0 : 100.0 * col / ins);
+        out.printf("Lock stripes     : %d%n", locks.length);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions.intValue(); }
+    @Override public int  getInsertions() { return insertions.intValue(); }
+    @Override public int  getDuplicates() { return duplicates.intValue(); }
+}
@@ -0,0 +1,371 @@
+package datastructures;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Thread‑safe open‑address table (LINEAR / QUADRATIC / DOUBLE_HASHING).
+ *
+ * Slots live in an {@link AtomicIntegerArray} using the same EMPTY / DELETED
+ * sentinels as {@link IntProbingHashTable}.  A slot only ever moves
+ * EMPTY → key → DELETED, which keeps every operation simple:
+ *  • insert claims the first EMPTY slot of its probe sequence with one CAS;
+ *    a thread that loses the race re‑reads the slot and sees the winner's key;
+ *  • delete CASes key → DELETED (tombstones are never reused in place);
+ *  • find takes no lock and writes nothing – it reads the current table and
+ *    probes at most m slots, so it is wait‑free.
+ *
+ * Tombstones count toward the load, so a resize both grows the table and
+ * clears them.  Writers pass a striped gate (one padded counter per thread
+ * stripe); a resizer closes the gate, waits for in‑flight writers to drain,
+ * copies the live keys into a fresh table and publishes it.  Finds keep
+ * running on the old table – which no one is changing – during the copy, but
+ * every writer blocks until it is done: a resize is a stop‑the‑writers pause
+ * of O(m), not a cooperative migration.  {@link #getResizePauseNanos()} and
+ * {@link #getMaxResizePauseNanos()} report how long writers were held.
+ *
+ * Statistics are {@link LongAdder}s, so counting never contends.
+ */
+public class ConcurrentProbingHashTable implements HashTable, SlotView {
+
+    public static final int EMPTY   = IntProbingHashTable.EMPTY;
+    public static final int DELETED = IntProbingHashTable.DELETED;
+
+    private static final int STRIPES = 64;      // writer‑gate stripes (power of two)
+    private static final int PAD     = 16;      // ints between stripes: one cache line
+
+    /** One generation of slots; replaced wholesale on resize. */
+    private static final class Slots {
+        final AtomicIntegerArray cells;
+        final int size;
+        final AtomicInteger claimed = new AtomicInteger();   // live keys + tombstones
+        final AtomicInteger deleted = new AtomicInteger();   // tombstones
+
+        Slots(int size) {
+            this.size  = size;
+            this.cells = new AtomicIntegerArray(size);
+            for (int i = 0; i < size; i++) cells.setPlain(i, EMPTY);
+        }
+    }
+
+    private volatile Slots current;
+    private final ProbeType type;
+    private final HashFunction h1;              // primary hash, called with the slots' size
+    private final int h1Kind;                   // see HashFunctionRegistry.kindOf
+    private final int strideStep;               // stride growth per probe: 2 for QUADRATIC, else 0
+    private final double loadFactor;
+    private final IntUnaryOperator growth;
+
+    /* writer gate */
+    private final AtomicIntegerArray writers = new AtomicIntegerArray(STRIPES * PAD);
+    private volatile boolean resizing = false;
+    private final ReentrantLock resizeLock = new ReentrantLock();
+    private volatile long pauseNanos    = 0;   // Σ gate‑closed time; written under resizeLock
+    private volatile long maxPauseNanos = 0;
+
+    /* keys equal to a sentinel are stored out of band */
+    private final AtomicBoolean hasEmptyKey   = new AtomicBoolean();
+    private final AtomicBoolean hasDeletedKey = new AtomicBoolean();
+
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder deletions  = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder resizes    = new LongAdder();
+
+    private volatile int verbose = 0;
+    private volatile PrintStream out = System.out;  // verbose messages and print()
+
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
+    public ConcurrentProbingHashTable(int size, ProbeType type, char hashCode) {
+        this(size, type, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public ConcurrentProbingHashTable(int size, ProbeType type, HashFunction hash) {
+        this(size, type, hash, ProbingHashTable.LOAD_FACTOR_THRESHOLD,
+             type == ProbeType.LINEAR ? ProbingHashTable.GROW_DOUBLE : ProbingHashTable.GROW_NEXT_PRIME);
+    }
+
+    public ConcurrentProbingHashTable(int size, ProbeType type, char hashCode,
+                                      double loadFactor, IntUnaryOperator growthPolicy) {
+        this(size, type, HashFunctionRegistry.forCode(hashCode), loadFactor, growthPolicy);
+    }
+
+    public ConcurrentProbingHashTable(int size, ProbeType type, HashFunction hash,
+                                      double loadFactor, IntUnaryOperator growthPolicy) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        if (type == ProbeType.ROBIN_HOOD)
+            throw new IllegalArgumentException("ROBIN_HOOD moves keys on insert; not supported concurrently");
+        if (!(loadFactor > 0.0 && loadFactor <= 1.0))
+            throw new IllegalArgumentException("load factor must be in (0, 1]: " + loadFactor);
+        this.type       = type;
+        this.h1         = hash;
+        this.h1Kind     = HashFunctionRegistry.kindOf(hash);
+        this.loadFactor = loadFactor;
+        this.growth     = growthPolicy;
+        this.strideStep = (type == ProbeType.QUADRATIC) ? 2 : 0;   // h + i²: strides 1, 3, 5, …
+        this.current    = new Slots(size);
+    }
+
+    // ---------- primitive API ------------------------------------------
+
+    /** Inserts {@code key}; returns false for a duplicate. Safe from any thread. */
+    public boolean insert(int key) {
+        if (key == EMPTY || key == DELETED) {
+            AtomicBoolean flag = (key == EMPTY) ? hasEmptyKey : hasDeletedKey;
+            boolean added = flag.compareAndSet(false, true);
+            (added ? insertions : duplicates).increment();
+            return added;
+        }
+        while (true) {
+            int stripe = enterWriter();
+            int result;
+            Slots t;
+            try {
+                t = current;
+                result = tryInsert(t, key);
+            } finally {
+                exitWriter(stripe);
+            }
+            if (result >= 0) return result == 1;
+            resize(t);                          // full / over threshold – grow, then retry
+        }
+    }
+
+    /** True if {@code key} is present. Lock‑free and wait‑free. */
+    public boolean contains(int key) {
+        if (key == EMPTY)   return hasEmptyKey.get();
+        if (key == DELETED) return hasDeletedKey.get();
+        return findSlot(current, key) >= 0;
+    }
+
+    /** Removes {@code key}; returns false if it was absent. Safe from any thread. */
+    public boolean delete(int key) {
+        if (key == EMPTY || key == DELETED) {
+            AtomicBoolean flag = (key == EMPTY) ? hasEmptyKey : hasDeletedKey;
+            boolean removed = flag.compareAndSet(true, false);
+            if (removed) deletions.increment();
+            return removed;
+        }
+        int stripe = enterWriter();
+        try {
+            Slots t = current;
+            while (true) {
+                int slot = findSlot(t, key);
+                if (slot < 0) return false;
+                if (t.cells.compareAndSet(slot, key, DELETED)) {
+                    t.deleted.incrementAndGet();
+                    deletions.increment();
+                    return true;
+                }
+                // lost to a concurrent delete of the same key – look again
+            }
+        } finally {
+            exitWriter(stripe);
+        }
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) { return insert(key.intValue()); }
+    @Override public boolean delete(Integer key) { return delete(key.intValue()); }
+    @Override public Integer find(Integer key)   { return contains(key.intValue()) ? key : null; }
+
+    @Override public int size() { return (int) (insertions.sum() - deletions.sum()); }
+
+    @Override public double averageProbes() {
+        long ins = insertions.sum();
+        return ins == 0 ? 0.0 : 1.0 + (double) collisions.sum() / ins;
+    }
+
+    @Override public int capacity() { return current.size; }
+
+    @Override public Integer slotKey(int i) {
+        int v = current.cells.get(i);
+        return (v == EMPTY || v == DELETED) ? null : v;
+    }
+    @Override public boolean isTombstone(int i) { return current.cells.get(i) == DELETED; }
+
+    /** How many times the table has been rebuilt. */
+    public int getResizes() { return resizes.intValue(); }
+
+    /** Total time writers were held at the gate by resizes, in nanoseconds. */
+    public long getResizePauseNanos() { return pauseNanos; }
+
+    /** Longest single resize pause, in nanoseconds. */
+    public long getMaxResizePauseNanos() { return maxPauseNanos; }
+
+    // ---------- probing --------------------------------------------------
+
+    /**
+     * One insert attempt on generation {@code t}.
+     * Returns 1 = inserted, 0 = duplicate, -1 = needs a resize first.
+     */
+    private int tryInsert(Slots t, int key) {
+        int m      = t.size;
+        int idx    = home(key, m);
+        int stride = firstStride(key, m);
+        int skipped = 0;
+        for (int i = 0; i < m; i++, idx = advance(idx, stride, m), stride = nextStride(stride, m)) {
+            int cur = t.cells.get(idx);
+            if (cur == EMPTY) {
+                if (t.claimed.get() + 1 > loadFactor * t.size) return -1;
+                if (t.cells.compareAndSet(idx, EMPTY, key)) {
+                    t.claimed.incrementAndGet();
+                    insertions.increment();
+                    collisions.add(skipped);
+                    return 1;
+                }
+                cur = t.cells.get(idx);         // someone else claimed it first
+            }
+            if (cur == key) {
+                duplicates.increment();
+                return 0;
+            }
+            skipped++;
+        }
+        return -1;
+    }
+
+    private int findSlot(Slots t, int key) {
+        int m      = t.size;
+        int idx    = home(key, m);
+        int stride = firstStride(key, m);
+        for (int i = 0; i < m; i++, idx = advance(idx, stride, m), stride = nextStride(stride, m)) {
+            int cur = t.cells.get(idx);
+            if (cur == key)   return idx;
+            if (cur == EMPTY) return -1;
+        }
+        return -1;
+    }
+
+    /*
+     * Probe sequence, walked as in ProbingHashTable:
+     *     idx ← idx + stride,  stride ← stride + strideStep   (mod m)
+     * so nothing is multiplied and nothing overflows for large m.
+     */
+
+    private int home(int key, int m) {
+        return Math.floorMod(HashFunctionRegistry.hash(h1Kind, h1, key, m), m);   // fibonacci is negative for k < 0
+    }
+
+    private int firstStride(int key, int m) {
+        return (type == ProbeType.DOUBLE_HASHING) ? HashFunctions.secondHash(key, m) : 1;
+    }
+
+    private static int advance(int idx, int stride, int m) {
+        int next = idx + stride;                // both < m ≤ 2^30
+        return next >= m ? next - m : next;
+    }
+
+    private int nextStride(int stride, int m) {
+        int next = stride + strideStep;
+        return next >= m ? next % m : next;
+    }
+
+    // ---------- writer gate / resize ------------------------------------
+
+    private int enterWriter() {
+        int stripe = ((int) Thread.currentThread().threadId() & (STRIPES - 1)) * PAD;
+        while (true) {
+            if (resizing) awaitResize();
+            writers.incrementAndGet(stripe);
+            if (!resizing) return stripe;       // gate open – resizer will wait for us
+            writers.decrementAndGet(stripe);    // lost the race with a resizer; back off
+        }
+    }
+
+    private void exitWriter(int stripe) {
+        writers.decrementAndGet(stripe);
+    }
+
+    private void awaitResize() {
+        resizeLock.lock();                      // blocks until the resizer is done
+        resizeLock.unlock();
+    }
+
+    /** Grows past {@code seen} unless another thread already did. */
+    private void resize(Slots seen) {
+        resizeLock.lock();
+        try {
+            if (current != seen) return;        // someone else resized meanwhile
+            long closed = System.nanoTime();
+            resizing = true;
+            for (int s = 0; s < STRIPES * PAD; s += PAD)
+                while (writers.get(s) != 0) Thread.onSpinWait();
+
+            // mostly tombstones → rebuild at the same size, else grow
+            int live    = seen.claimed.get() - seen.deleted.get();
+            int newSize = (live + 1 <= loadFactor / 2 * seen.size)
+                        ? seen.size
+                        : growth.applyAsInt(seen.size);
+            Slots next;
+            do {
+                next = new Slots(newSize);
+                newSize = growth.applyAsInt(newSize);
+            } while (!copyLive(seen, next));
+            current = next;
+            resizes.increment();
+            long paused = System.nanoTime() - closed;
+            pauseNanos   += paused;
+            maxPauseNanos = Math.max(maxPauseNanos, paused);
+            if (verbose > 0)
+                out.printf("Resize -> %d slots%n", next.size);
+        } finally {
+            resizing = false;
+            resizeLock.unlock();
+        }
+    }
+
+    /** Single‑threaded copy (the gate is closed); false if a probe cycle left a key out. */
+    private boolean copyLive(Slots from, Slots to) {
+        for (int i = 0; i < from.size; i++) {
+            int key = from.cells.get(i);
+            if (key == EMPTY || key == DELETED) continue;
+            int m      = to.size;
+            int idx    = home(key, m);
+            int stride = firstStride(key, m);
+            boolean placed = false;
+            for (int j = 0; j < m && !placed; j++, idx = advance(idx, stride, m), stride = nextStride(stride, m)) {
+                if (to.cells.getPlain(idx) == EMPTY) {
+                    to.cells.setPlain(idx, key);
+                    placed = true;
+                }
+            }
+            if (!placed) return false;
+            to.claimed.incrementAndGet();
+        }
+        return true;
+    }
+
+    @Override public void print() {
+        Slots t = current;
+        out.println("\n--- ConcurrentProbingHashTable ---");
+        for (int i = 0; i < t.size; i++) {
+            int v = t.cells.get(i);
+            out.printf("%3d: %s%n", i,
+                    v == EMPTY ? "·" : v == DELETED ? "⊘" : Integer.toString(v));
+        }
+        if (hasEmptyKey.get())   out.printf("  +: %d%n", EMPTY);
+        if (hasDeletedKey.get()) out.printf("  +: %d%n", DELETED);
+        long ins = insertions.sum(), col = collisions.sum();
+        out.printf("insertions  : %d%n", ins);
+        out.printf("collisions  : %d%n", col);
+        out.printf("collision%%  : %.2f%n", ins == 0 ? 0.0 : 100.0 * col / ins);
+        out.printf("capacity    : %d (%d resizes)%n", t.size, resizes.sum());
+        if (resizes.sum() > 0)
+            out.printf("resize pause: %.3f ms total, %.3f ms max%n", pauseNanos / 1e6, maxPauseNanos / 1e6);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions.intValue(); }
+    @Override public int  getInsertions() { return insertions.intValue(); }
+    @Override public int  getDuplicates() { return duplicates.intValue(); }
+}
@@ -0,0 +1,345 @@
+package datastructures;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Cuckoo hashing with d hash choices, b slots per bucket and a small stash.
+ *
+ * A key may only live in one of its d candidate buckets (or the stash), so a
+ * lookup touches at most d buckets – two with the default d = 2 – no matter
+ * how the keys are distributed.  Insert drops the key into any free candidate
+ * slot; when all are full it evicts a random resident and re‑places that one
+ * instead ("kicking"), up to {@link #MAX_KICKS} times.  A key left homeless
+ * goes to the stash; when the stash is full the table picks fresh seeds and
+ * rehashes, growing to 2n + 1 buckets only after repeated failures.
+ *
+ * Choice i is the selected {@link HashFunctions} method applied to the key
+ * scrambled with seed i, so every hash code letter works and reseeding
+ * changes all d functions at once.  A range‑limited hash (folding never
+ * exceeds ~3000) cannot spread many keys however large n gets, so a rebuild
+ * that still fails after {@link #MAX_GROWTHS} growths switches the table to a
+ * full‑range mix of the scrambled key; if even that fails, it throws.
+ */
+public class CuckooHashTable implements HashTable, SlotView {
+
+    /** Evictions tried before a key is sent to the stash. */
+    public static final int MAX_KICKS  = 500;
+    /** Keys the stash may hold before a rehash is forced. */
+    public static final int STASH_SIZE = 4;
+    /** Reseeds at one size before the table grows instead. */
+    private static final int MAX_RESEEDS = 4;
+    /** Growths within one rebuild before the selected hash is given up. */
+    private static final int MAX_GROWTHS = 3;
+
+    private final int  choices;                 // d
+    private final int  slotsPerBucket;          // b
+    private final double maxLoad;
+    private final HashFunction base;            // selected hash, called with the bucket count n
+    private final int baseKind;                 // see HashFunctionRegistry.kindOf
+    private final Random rng;
+
+    private int   buckets;                      // n
+    private int[] keys;                         // n * b slots, bucket j = [j*b, (j+1)*b)
+    private boolean[] used;
+    private int[] seeds;
+    private boolean mixed;                      // buckets from mix(), the selected hash could not spread the keys
+
+    private final int[] stash = new int[STASH_SIZE];
+    private int stashCount = 0;
+    private int homeless;                       // key left over by a failed place()
+
+    private int collisions  = 0;               // inserts whose first choice was full
+    private int insertions  = 0;
+    private int deletions   = 0;
+    private int duplicates  = 0;
+    private int kicks       = 0;
+    private int rehashes    = 0;
+
+    private int verbose     = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
+
+    /** Two choices, four slots per bucket; {@code size} is the total slot count. */
+    public CuckooHashTable(int size, char hashCode) {
+        this(size, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public CuckooHashTable(int size, HashFunction hash) {
+        this(size, hash, 2, 4, 123456789L);
+    }
+
+    public CuckooHashTable(int size, char hashCode, int choices, int slotsPerBucket, long seed) {
+        this(size, HashFunctionRegistry.forCode(hashCode), choices, slotsPerBucket, seed);
+    }
+
+    /**
+     * @param size           total slots wanted (rounded up to whole buckets)
+     * @param choices        hash functions per key, d ≥ 2
+     * @param slotsPerBucket slots per bucket, b ≥ 1
+     * @param seed           seed for the hash scramblers and eviction choices
+     */
+    public CuckooHashTable(int size, HashFunction hash, int choices, int slotsPerBucket, long seed) {
+        if (choices < 2)
+            throw new IllegalArgumentException("need at least two hash choices: " + choices);
+        if (slotsPerBucket < 1)
+            throw new IllegalArgumentException("slots per bucket must be positive: " + slotsPerBucket);
+        this.choices        = choices;
+        this.slotsPerBucket = slotsPerBucket;
+        // plain 2‑choice cuckoo fails past ~50 % load; buckets or more choices push that past 90 %
+        this.maxLoad        = (choices == 2 && slotsPerBucket == 1) ? 0.45 : 0.9;
+        this.base           = hash;
+        this.baseKind       = HashFunctionRegistry.kindOf(hash);
+        this.rng            = new Random(seed);
+        allocate(Math.max(2, (size + slotsPerBucket - 1) / slotsPerBucket));
+        reseed();
+    }
+
+    private void allocate(int n) {
+        buckets = n;
+        keys    = new int[n * slotsPerBucket];
+        used    = new boolean[n * slotsPerBucket];
+    }
+
+    private void reseed() {
+        seeds = new int[choices];
+        for (int i = 0; i < choices; i++) seeds[i] = rng.nextInt() | 1;    // odd multiplier
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) {
+        int k = key;
+        if (contains(k)) {
+            duplicates++;
+            return false;
+        }
+        if (size() + 1 > maxLoad * keys.length) {
+            rebuild(2 * buckets + 1);
+        }
+        if (!hasFreeSlot(bucket(k, 0))) collisions++;
+        add(k);
+        insertions++;
+        if (verbose > 0)
+            out.printf("Insert %-5d (kicks so far %d)%n", k, kicks);
+        return true;
+    }
+
+    @Override public Integer find(Integer key) {
+        return contains(key) ? key : null;
+    }
+
+    @Override public boolean delete(Integer key) {
+        int k = key;
+        for (int c = 0; c < choices; c++) {
+            int start = bucket(k, c) * slotsPerBucket;
+            for (int s = start; s < start + slotsPerBucket; s++) {
+                if (used[s] && keys[s] == k) {
+                    used[s] = false;
+                    deletions++;
+                    return true;
+                }
+            }
+        }
+        for (int i = 0; i < stashCount; i++) {
+            if (stash[i] == k) {
+                stash[i] = stash[--stashCount];
+                deletions++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override public int size() { return insertions - deletions; }
+
+    @Override public double averageProbes() {
+        return insertions == 0 ? 0.0 : 1.0 + (double) collisions / insertions;
+    }
+
+    @Override public int capacity() { return keys.length; }
+
+    @Override public Integer slotKey(int i) { return used[i] ? keys[i] : null; }
+
+    /** Total evictions performed by inserts. */
+    public int getKicks() { return kicks; }
+
+    /** Reseed / grow rebuilds triggered by failed inserts or load. */
+    public int getRehashes() { return rehashes; }
+
+    /** Load past which an insert grows the table: 0.45 for plain 2‑choice, else 0.9. */
+    public double maxLoad() { return maxLoad; }
+
+    /** Keys currently parked in the stash. */
+    public int stashSize() { return stashCount; }
+
+    /** True once rebuilds gave up on the selected hash for a full‑range mix. */
+    public boolean usesFallbackMix() { return mixed; }
+
+    // ---------- internals ----------------------------------------------
+
+    /** Candidate bucket for choice {@code c}: selected hash of the seeded key. */
+    private int bucket(int key, int c) {
+        int x = (key ^ (seeds[c] >>> 7)) * seeds[c];
+        x ^= x >>> 16;
+        if (mixed) return HashFunctions.fastRange(mix(x), buckets);
+        return Math.floorMod(HashFunctionRegistry.hash(baseKind, base, x, buckets), buckets);
+    }
+
+    /** Murmur3 finaliser: every output bit depends on every input bit. */
+    private static int mix(int x) {
+        x *= 0x85EBCA6B;
+        x ^= x >>> 13;
+        x *= 0xC2B2AE35;
+        return x ^ (x >>> 16);
+    }
+
+    private boolean contains(int key) {
+        for (int c = 0; c < choices; c++) {
+            int start = bucket(key, c) * slotsPerBucket;
+            for (int s = start; s < start + slotsPerBucket; s++)
+                if (used[s] && keys[s] == key) return true;
+        }
+        for (int i = 0; i < stashCount; i++)
+            if (stash[i] == key) return true;
+        return false;
+    }
+
+    private boolean hasFreeSlot(int bucket) {
+        int start = bucket * slotsPerBucket;
+        for (int s = start; s < start + slotsPerBucket; s++)
+            if (!used[s]) return true;
+        return false;
+    }
+
+    /** Places a key that is known to be absent, rebuilding as often as needed. */
+    private void add(int key) {
+        if (place(key)) return;
+        if (stashCount < STASH_SIZE) {
+            stash[stashCount++] = homeless;
+        } else {
+            rebuildWith(homeless);
+        }
+    }
+
+    /**
+     * Random‑walk insertion.  Returns false when the kick budget runs out; the
+     * key still without a slot is then left in {@link #homeless}.
+     */
+    private boolean place(int key) {
+        int carry = key;
+        int from  = -1;                         // bucket the carried key was just evicted from
+        for (int kick = 0; kick <= MAX_KICKS; kick++) {
+            for (int c = 0; c < choices; c++) {
+                int start = bucket(carry, c) * slotsPerBucket;
+                for (int s = start; s < start + slotsPerBucket; s++) {
+                    if (!used[s]) {
+                        keys[s] = carry;
+                        used[s] = true;
+                        return true;
+                    }
+                }
+            }
+            if (kick == MAX_KICKS) break;
+            // all candidates full: evict a random resident, avoiding the bucket we just left
+            int b;
+            do {
+                b = bucket(carry, rng.nextInt(choices));
+            } while (b == from && !allChoicesEqual(carry));
+            int s = b * slotsPerBucket + rng.nextInt(slotsPerBucket);
+            int evicted = keys[s];
+            keys[s] = carry;
+            carry   = evicted;
+            from    = b;
+            kicks++;
+        }
+        homeless = carry;
+        return false;
+    }
+
+    private boolean allChoicesEqual(int key) {
+        int b0 = bucket(key, 0);
+        for (int c = 1; c < choices; c++)
+            if (bucket(key, c) != b0) return false;
+        return true;
+    }
+
+    /** Reseeds (and eventually grows) until every key, plus {@code extra}, fits. */
+    private void rebuildWith(int extra) {
+        int[] all = liveKeys(1);
+        all[all.length - 1] = extra;
+        rebuildFrom(all, buckets);
+    }
+
+    private void rebuild(int newBuckets) {
+        rebuildFrom(liveKeys(0), newBuckets);
+    }
+
+    private int[] liveKeys(int spare) {
+        int[] out = new int[size() + spare];
+        int n = 0;
+        for (int s = 0; s < keys.length; s++)
+            if (used[s]) out[n++] = keys[s];
+        for (int i = 0; i < stashCount; i++)
+            out[n++] = stash[i];
+        return out;
+    }
+
+    private void rebuildFrom(int[] all, int n) {
+        int attempts = 0;
+        int growths  = 0;
+        outer:
+        while (true) {
+            if (attempts++ == MAX_RESEEDS) {        // unlucky at this size – grow
+                if (growths++ < MAX_GROWTHS) {
+                    n = 2 * n + 1;
+                } else if (!mixed) {                // the hash itself cannot spread these keys
+                    mixed   = true;                 // size for the keys, not for the failed growths
+                    n       = Math.max(2, (int) Math.ceil(all.length / (maxLoad * slotsPerBucket)));
+                    growths = 0;
+                    if (verbose > 0)
+                        out.println("Rehash -> selected hash gives up, using full-range mix");
+                } else {
+                    throw new IllegalStateException("cuckoo rebuild failed: " + all.length
+                            + " keys still collide at " + n + " buckets x " + slotsPerBucket);
+                }
+                attempts = 1;
+            }
+            allocate(n);
+            reseed();
+            stashCount = 0;
+            rehashes++;
+            for (int key : all) {
+                if (!place(key)) {
+                    if (stashCount == STASH_SIZE) continue outer;
+                    stash[stashCount++] = homeless;
+                }
+            }
+            break;
+        }
+        if (verbose > 0)
+            out.printf("Rehash -> %d buckets x %d slots%n", buckets, slotsPerBucket);
+    }
+
+    @Override public void print() {
+        out.println("\n--- CuckooHashTable ---");
+        for (int i = 0; i < keys.length; i++) {
+            out.printf("%3d: %s%n", i, used[i] ? Integer.toString(keys[i]) : "·");
+        }
+        if (stashCount > 0)
+            out.printf("stash       : %s%n", Arrays.toString(Arrays.copyOf(stash, stashCount)));
+        out.printf("insertions  : %d%n", insertions);
+        out.printf("collisions  : %d%n", collisions);
+        out.printf("collision%%  : %.2f%n",
+                insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        out.printf("kicks       : %d%n", kicks);
+        out.printf("rehashes    : %d%n", rehashes);
+        out.printf("capacity    : %d (%d buckets x %d)%n", keys.length, buckets, slotsPerBucket);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions; }
+    @Override public int  getInsertions() { return insertions; }
+    @Override public int  getDuplicates() { return duplicates; }
+}
@@ -0,0 +1,18 @@
+package datastructures;
+
+/**
+ * Primary hash: maps a key to a bucket of a table with m slots.
+ *
+ * Tables keep one of these in a final field and pass their current m on every
+ * call, so nothing captures the table size and a resize only changes m.  A
+ * result may fall outside [0, m) (fibonacci and folding go negative for
+ * negative keys); tables reduce it with floorMod where that matters.
+ *
+ * Built‑in and user‑supplied hashes are looked up by letter or name through
+ * {@link HashFunctionRegistry}.
+ */
+@FunctionalInterface
+public interface HashFunction {
+
+    int hash(int key, int m);
+}
@@ -0,0 +1,134 @@
+package datastructures;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Letter and name lookup for {@link HashFunction}s.
+ *
+ * The built‑ins are registered under the letters the GUI and the table
+ * constructors have always used ('i' division, 'm' multiplication, …).  A new
+ * hash plugs in with {@link #register} and is then available to every table
+ * and to the driver's {@code -h} option without touching a switch.
+ *
+ * Tables call their hash through {@link #hash(int, HashFunction, int, int)}
+ * with the function's {@link #kindOf kind}.  Built‑ins (and {@link SeededHash})
+ * then run as direct static calls the JIT inlines, however many functions a
+ * process uses; the JIT profiles per call site, so a plain {@code fn.hash}
+ * shared by every table turns megamorphic once three or more are in play.
+ * Only user‑registered functions still take the interface call.
+ */
+public final class HashFunctionRegistry {
+
+    public static final HashFunction DIVISION       = HashFunctions::division;
+    public static final HashFunction MULTIPLICATION = HashFunctions::multiplication;
+    public static final HashFunction MIDSQUARE      = HashFunctions::midsquare;
+    public static final HashFunction FOLDING        = HashFunctions::folding;
+    public static final HashFunction FIBONACCI      = HashFunctions::fibonacci;
+    public static final HashFunction RANDOM         = HashFunctions::random;
+    public static final HashFunction CUSTOM         = HashFunctions::custom;
+    public static final HashFunction OTHER          = HashFunctions::some_other_hash_function;
+    public static final HashFunction MULTIPLY_SHIFT = HashFunctions::multiplyShift;
+
+    /* kinds for hash(kind, …): one per built‑in, then SEEDED, then USER */
+    static final int K_DIVISION = 0, K_MULTIPLICATION = 1, K_MIDSQUARE = 2, K_FOLDING = 3,
+                     K_FIBONACCI = 4, K_RANDOM = 5, K_CUSTOM = 6, K_OTHER = 7, K_MULTIPLY_SHIFT = 8,
+                     K_SEEDED = 9, K_USER = 10;
+
+    private static final Map<Character, HashFunction> BY_CODE = new HashMap<>();
+    private static final Map<String, HashFunction>    BY_NAME = new HashMap<>();
+    private static final Map<Character, String>       CODE_NAMES = new HashMap<>();
+    private static final List<String>                 NAMES   = new ArrayList<>();   // registration order
+
+    static {
+        register('i', "division",       DIVISION);
+        register('m', "multiplication", MULTIPLICATION);
+        register('s', "midsquare",      MIDSQUARE);
+        register('o', "folding",        FOLDING);
+        register('f', "fibonacci",      FIBONACCI);
+        register('r', "random",         RANDOM);
+        register('c', "custom",         CUSTOM);
+        register('d', "other",          OTHER);
+        register('x', "multiplyshift",  MULTIPLY_SHIFT);
+    }
+
+    private HashFunctionRegistry() { }
+
+    /**
+     * Makes {@code fn} available under {@code code} and {@code name} (case
+     * insensitive); a later registration replaces an earlier one.
+     */
+    public static synchronized void register(char code, String name, HashFunction fn) {
+        if (name == null || name.isBlank())
+            throw new IllegalArgumentException("hash function name must not be blank");
+        if (fn == null)
+            throw new IllegalArgumentException("hash function must not be null: " + name);
+        String key = name.toLowerCase(Locale.ROOT);
+        if (BY_NAME.put(key, fn) == null) NAMES.add(key);
+        BY_CODE.put(code, fn);
+        CODE_NAMES.put(code, key);
+    }
+
+    /** Hash registered under {@code code}; unknown letters fall back to division. */
+    public static synchronized HashFunction forCode(char code) {
+        return BY_CODE.getOrDefault(code, DIVISION);
+    }
+
+    /** Name of the hash registered under {@code code}, or null if the letter is unused. */
+    public static synchronized String nameForCode(char code) {
+        return CODE_NAMES.get(code);
+    }
+
+    /** Hash registered under {@code name}. */
+    public static synchronized HashFunction forName(String name) {
+        HashFunction fn = BY_NAME.get(name.toLowerCase(Locale.ROOT));
+        if (fn == null)
+            throw new IllegalArgumentException("unknown hash function: " + name + " (known: " + NAMES + ")");
+        return fn;
+    }
+
+    /** True if {@code name} has been registered. */
+    public static synchronized boolean isRegistered(String name) {
+        return BY_NAME.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /** Dispatch kind of {@code fn} for {@link #hash(int, HashFunction, int, int)}. */
+    public static int kindOf(HashFunction fn) {
+        if (fn == DIVISION)       return K_DIVISION;
+        if (fn == MULTIPLICATION) return K_MULTIPLICATION;
+        if (fn == MIDSQUARE)      return K_MIDSQUARE;
+        if (fn == FOLDING)        return K_FOLDING;
+        if (fn == FIBONACCI)      return K_FIBONACCI;
+        if (fn == RANDOM)         return K_RANDOM;
+        if (fn == CUSTOM)         return K_CUSTOM;
+        if (fn == OTHER)          return K_OTHER;
+        if (fn == MULTIPLY_SHIFT) return K_MULTIPLY_SHIFT;
+        if (fn instanceof SeededHash) return K_SEEDED;
+        return K_USER;
+    }
+
+    /** {@code fn.hash(key, m)}, with {@code kind = kindOf(fn)}; built‑ins are called statically. */
+    public static int hash(int kind, HashFunction fn, int key, int m) {
+        return switch (kind) {
+            case K_DIVISION       -> HashFunctions.division(key, m);
+            case K_MULTIPLICATION -> HashFunctions.multiplication(key, m);
+            case K_MIDSQUARE      -> HashFunctions.midsquare(key, m);
+            case K_FOLDING        -> HashFunctions.folding(key, m);
+            case K_FIBONACCI      -> HashFunctions.fibonacci(key, m);
+            case K_RANDOM         -> HashFunctions.random(key, m);
+            case K_CUSTOM         -> HashFunctions.custom(key, m);
+            case K_OTHER          -> HashFunctions.some_other_hash_function(key, m);
+            case K_MULTIPLY_SHIFT -> HashFunctions.multiplyShift(key, m);
+            case K_SEEDED         -> ((SeededHash) fn).hash(key, m);
+            default               -> fn.hash(key, m);
+        };
+    }
+
+    /** Registered names, built‑ins first. */
+    public static synchronized List<String> names() {
+        return List.copyOf(NAMES);
+    }
+}
@@ -15,7 +15,6 @@ package datastructures;
  *  body once you've written the code.
  */
 
-import java.util.Random; // helper that records unimplemented calls
 import datastructures.NotImplemented;
 
 /** Five simple hash functions that operate on an int key. */
@@ -30,12 +29,47 @@ public final class HashFunctions {
 
     /* --- */
 
+    /*
+     * Multiplicative hashes in fixed point.  A = (√5 − 1)/2 is held to 96
+     * bits, so goldenFraction(k) is kA mod 1 scaled by 2^64, and ⌊m · frac⌋ is
+     * the high word of a 64 × 32‑bit product – no doubles, no Math.sqrt, no
+     * division.  The error (< |k| m / 2^96 of a bucket) never moves a result;
+     * the old double formula kept only ~22 fraction bits for large keys, so
+     * the two agree only where that formula was itself exact (small keys
+     * and m).
+     */
+    private static final long GOLDEN_64 = 0x9E3779B97F4A7C15L;   // ⌊2^64 (√5 − 1)/2⌋
+    private static final long GOLDEN_LO = 0xF39CC060L;           // next 32 bits of (√5 − 1)/2
+    private static final int  GOLDEN_32 = 0x9E3779B9;            // ⌊2^32 (√5 − 1)/2⌋
+
     public static int multiplication(int k, int size) {      // ⌊ m (kA mod 1)⌋
         // Knuth's multiplicative method
-        final double A = (Math.sqrt(5) - 1) / 2;      // fractional constant
-        double product = k * A;
-        double frac = product - Math.floor(product);
-        return (int) (size * frac);
+        return scaleHigh(goldenFraction(k), size);
+    }
+
+    /** ⌊2^64 (kA mod 1)⌋ for |k| ≤ 2^31, read as unsigned. */
+    private static long goldenFraction(long k) {
+        return k * GOLDEN_64 + ((k * GOLDEN_LO) >> 32);
+    }
+
+    /** ⌊m · x / 2^64⌋ for x read as unsigned, 0 ≤ m < 2^31. */
+    private static int scaleHigh(long x, int m) {
+        long hi = x >>> 32, lo = x & 0xFFFFFFFFL;
+        return (int) ((hi * m + ((lo * m) >>> 32)) >>> 32);
+    }
+
+    /**
+     * Lemire's fast range: maps a 32‑bit hash onto [0, m) with one multiply
+     * and a shift instead of %.  Uses the high bits of {@code h}, so feed it
+     * a mixed hash rather than a raw key.
+     */
+    public static int fastRange(int h, int m) {
+        return (int) (((h & 0xFFFFFFFFL) * m) >>> 32);
+    }
+
+    /** 32‑bit Fibonacci hashing: k · ⌊2^32 / φ⌋, reduced with {@link #fastRange}. */
+    public static int multiplyShift(int k, int size) {
+        return fastRange(k * GOLDEN_32, size);
     }
 
     /* —— folding (3-digit groups) —— */
@@ -59,17 +93,11 @@ public final class HashFunctions {
         return sum % size;
     }
 
-    /* —— random (consistent per run) —— */
-    private static final Random RAND = new Random(123456789);
-    private static final java.util.Map<Integer,Integer> randomMap = new java.util.HashMap<>();
+    /* —— random (same seed every run) —— */
+    private static final TabulationHash RANDOM = new TabulationHash(123456789L);
+    /** Tabulation hash with a fixed seed: random‑looking, stateless and thread‑safe. */
     public static int random(int key, int m) {
-        Integer existing = randomMap.get(key);
-        if (existing != null) {
-            return existing;
-        }
-        int bucket = RAND.nextInt(m);
-        randomMap.put(key, bucket);
-        return bucket;
+        return RANDOM.hash(key, m);
     }
 
     public static int midsquare(int k, int size) {           // middle bits of k²
@@ -79,13 +107,15 @@ public final class HashFunctions {
         int shift = (Long.SIZE - neededBits) / 2;
         long mask = (1L << neededBits) - 1;
         int mid = (int) ((square >>> shift) & mask);
-        return mid % size;
+        return mid >= size ? mid - size : mid;                   // mid < 2·size
     }
 
     public static int fibonacci(int k, int size) {           // φ-based hashing
-        final double φ = (1 + Math.sqrt(5)) / 2;
-        return (int) Math.floor(size *
-                ((k * (φ - 1)) % 1));
+        if (k >= 0) return multiplication(k, size);
+        // ⌊m ((k(φ − 1)) % 1)⌋: % keeps the sign, so a negative key lands in (−m, 0]
+        long x = goldenFraction(-(long) k);     // |k| (φ − 1) mod 1, scaled by 2^64
+        int  q = scaleHigh(x, size);
+        return (x * size == 0) ? -q : -q - 1;     // −⌈m · frac⌉
     }
 
     /* --- helpers for double hashing ------------------------------------- */
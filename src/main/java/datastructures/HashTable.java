@@ -1,5 +1,7 @@
 package datastructures;
 
+import java.io.PrintStream;
+
 public interface HashTable {
     boolean insert(Integer key);
     boolean delete(Integer key);
@@ -11,6 +13,9 @@ public interface HashTable {
     /** Adjust console verbosity (0-silent, 1-ops, 2-ops+searches). */
     void setVerbose(int level);
 
+    /** Where verbose messages and {@link #print()} go; System.out until set. */
+    default void setOutput(PrintStream out) { }
+
     /* Basic metrics so Driver can compare tables */
     int getCollisions();
     int getInsertions();
@@ -28,4 +33,45 @@ public interface HashTable {
 
     /** Average probes per successful insert (1 + collisions / inserts). */
     double averageProbes();
+
+    /* ---------- batch operations (optional) ------------------------- */
+
+    /**
+     * Inserts {@code keys} in order; returns how many were new.  Tables that
+     * can overlap the probes of several keys override the counted form.
+     */
+    default int insertAll(int[] keys) {
+        return insertAll(keys, keys.length);
+    }
+
+    /** Inserts the first {@code n} of {@code keys}, so a reused buffer needs no copy. */
+    default int insertAll(int[] keys, int n) {
+        int added = 0;
+        for (int i = 0; i < n; i++) if (insert(keys[i])) added++;
+        return added;
+    }
+
+    /** Sets {@code out[i]} to whether {@code keys[i]} is present. */
+    default void findAll(int[] keys, boolean[] out) {
+        findAll(keys, keys.length, out);
+    }
+
+    /** {@link #findAll(int[], boolean[])} over the first {@code n} keys. */
+    default void findAll(int[] keys, int n, boolean[] out) {
+        if (out.length < n)
+            throw new IllegalArgumentException("out has " + out.length + " slots for " + n + " keys");
+        for (int i = 0; i < n; i++) out[i] = find(keys[i]) != null;
+    }
+
+    /** Deletes {@code keys} in order; returns how many were present. */
+    default int deleteAll(int[] keys) {
+        return deleteAll(keys, keys.length);
+    }
+
+    /** Deletes the first {@code n} of {@code keys}; returns how many were present. */
+    default int deleteAll(int[] keys, int n) {
+        int removed = 0;
+        for (int i = 0; i < n; i++) if (delete(keys[i])) removed++;
+        return removed;
+    }
 }
\ No newline at end of file
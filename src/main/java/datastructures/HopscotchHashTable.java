@@ -0,0 +1,274 @@
+package datastructures;
+
+import java.io.PrintStream;
+
+
+/**
+ * Hopscotch hashing: every key lives within a fixed neighbourhood of H slots
+ * starting at its home bucket.
+ *
+ * Each bucket keeps a hop bitmap – bit i set ⇔ slot (home + i) holds a key whose
+ * home is this bucket – so a lookup reads one bitmap and at most H consecutive
+ * slots (one or two cache lines), however full the table is.
+ *
+ * Insert finds the nearest free slot by linear scan; while that slot is too far
+ * from home it "hops" the free slot backwards by moving some nearer key (whose
+ * own neighbourhood still covers the free slot) into it.  If no such move exists
+ * the table grows to 2m + 1 and rehashes – unless it is still sparse, in which
+ * case the hash itself is crowding one neighbourhood (e.g. folding over a narrow
+ * key range) and growing would not help.  The table then gives up on the
+ * selected hash and rehashes with a full‑range mix of the key, as
+ * {@link CuckooHashTable} does, so every key always sits in its neighbourhood.
+ *
+ * Hash selection goes through {@link HashFunctionRegistry}, like the other tables.
+ */
+public class HopscotchHashTable implements HashTable, SlotView {
+
+    /** Neighbourhood size H (bits in the hop bitmap). */
+    public static final int NEIGHBORHOOD = 32;
+    /** grow when (#keys) / m > this threshold */
+    public static final double LOAD_FACTOR_THRESHOLD = 0.9;
+
+    private int[]     keys;
+    private boolean[] used;
+    private int[]     hop;                      // hop[b] bit i ⇔ slot b+i is homed at b
+    private int       size;
+    private int       h;                        // effective neighbourhood: min(H, m)
+    private final HashFunction h1;              // primary hash, called with the current m
+    private final int h1Kind;                   // see HashFunctionRegistry.kindOf
+
+    private boolean mixed;                      // homes from mix(), the selected hash crowded a neighbourhood
+
+    private int collisions  = 0;               // Σ distance from home at insert time
+    private int insertions  = 0;
+    private int deletions   = 0;
+    private int duplicates  = 0;
+    private int resizes     = 0;
+
+    private int verbose     = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
+
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
+    public HopscotchHashTable(int size, char hashCode) {
+        this(size, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public HopscotchHashTable(int size, HashFunction hash) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        this.h1 = hash;
+        this.h1Kind = HashFunctionRegistry.kindOf(hash);
+        allocate(size);
+    }
+
+    public HopscotchHashTable(int size) {
+        this(size, 'd');
+    }
+
+    private void allocate(int m) {
+        size = m;
+        h    = Math.min(NEIGHBORHOOD, m);
+        keys = new int[m];
+        used = new boolean[m];
+        hop  = new int[m];
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) {
+        int k = key;
+        if (findSlot(k) >= 0) {
+            duplicates++;
+            return false;
+        }
+        if (size() + 1 > LOAD_FACTOR_THRESHOLD * size) {
+            grow();
+        }
+        int d = place(k);
+        while (d < 0) {
+            if (mixed || size() + 1 > LOAD_FACTOR_THRESHOLD / 2 * size) {
+                grow();
+            } else {                            // sparse: the hash itself crowds this neighbourhood
+                useMix();
+            }
+            d = place(k);
+        }
+        collisions += d;
+        insertions++;
+        if (verbose > 0)
+            out.printf("Insert %-5d -> %d from home%n", k, d);
+        return true;
+    }
+
+    @Override public Integer find(Integer key) {
+        int k = key;
+        return findSlot(k) >= 0 ? key : null;
+    }
+
+    @Override public boolean delete(Integer key) {
+        int k    = key;
+        int home = home(k);
+        int bits = hop[home];
+        while (bits != 0) {
+            int i    = Integer.numberOfTrailingZeros(bits);
+            int slot = (home + i) % size;
+            if (keys[slot] == k) {
+                used[slot] = false;
+                hop[home] &= ~(1 << i);
+                deletions++;
+                return true;
+            }
+            bits &= bits - 1;
+        }
+        return false;
+    }
+
+    @Override public int size() { return insertions - deletions; }
+
+    @Override public double averageProbes() {
+        return insertions == 0 ? 0.0 : 1.0 + (double) collisions / insertions;
+    }
+
+    @Override public int capacity() { return size; }
+
+    @Override public Integer slotKey(int i) { return used[i] ? keys[i] : null; }
+
+    /** How many times the table has grown. */
+    public int getResizes() { return resizes; }
+
+    /** True once the table gave up on the selected hash for a full‑range mix. */
+    public boolean usesFallbackMix() { return mixed; }
+
+    // ---------- internals ----------------------------------------------
+
+    private int home(int key) {
+        if (mixed) return HashFunctions.fastRange(mix(key), size);
+        return Math.floorMod(HashFunctionRegistry.hash(h1Kind, h1, key, size), size);  // fibonacci is negative for k < 0
+    }
+
+    private int findSlot(int key) {
+        int home = home(key);
+        int bits = hop[home];
+        while (bits != 0) {
+            int slot = (home + Integer.numberOfTrailingZeros(bits)) % size;
+            if (keys[slot] == key) return slot;
+            bits &= bits - 1;
+        }
+        return -1;
+    }
+
+    /** Murmur3 finaliser: every output bit depends on every input bit. */
+    private static int mix(int x) {
+        x *= 0x85EBCA6B;
+        x ^= x >>> 13;
+        x *= 0xC2B2AE35;
+        return x ^ (x >>> 16);
+    }
+
+    /**
+     * Stores {@code key} inside its neighbourhood, hopping the nearest free slot
+     * back toward home if needed.  Returns the distance from home, or -1 if the
+     * key cannot be placed without growing.
+     */
+    private int place(int key) {
+        int home = home(key);
+
+        // 1. nearest free slot at or after home
+        int dist = 0;
+        while (dist < size && used[(home + dist) % size]) dist++;
+        if (dist == size) return -1;
+
+        // 2. hop it back until it is within the neighbourhood
+        while (dist >= h) {
+            int free  = (home + dist) % size;
+            int moved = hopBack(free);
+            if (moved < 0) return -1;
+            dist -= moved;
+        }
+
+        int slot = (home + dist) % size;
+        keys[slot] = key;
+        used[slot] = true;
+        hop[home] |= 1 << dist;
+        return dist;
+    }
+
+    /**
+     * Moves some key from the H‑1 slots before {@code free} into {@code free},
+     * keeping it inside its own neighbourhood.  Returns how far back the free
+     * slot moved, or -1 if no candidate exists.
+     */
+    private int hopBack(int free) {
+        for (int back = h - 1; back > 0; back--) {
+            int bucket = Math.floorMod(free - back, size);
+            int bits   = hop[bucket];
+            // candidate slots of this bucket that lie before `free`
+            int mask   = bits & ((1 << back) - 1);
+            if (mask == 0) continue;
+            int i    = Integer.numberOfTrailingZeros(mask);
+            int from = (bucket + i) % size;
+            keys[free] = keys[from];
+            used[free] = true;
+            used[from] = false;
+            hop[bucket] = (bits | (1 << back)) & ~(1 << i);
+            return back - i;
+        }
+        return -1;
+    }
+
+    private void grow() {
+        rehash(2 * size + 1);
+        resizes++;
+        if (verbose > 0)
+            out.printf("Resize -> %d slots%n", size);
+    }
+
+    /** Switches {@link #home} to the full‑range mix and rehashes in place. */
+    private void useMix() {
+        mixed = true;
+        if (verbose > 0)
+            out.println("Rehash -> selected hash crowds one neighbourhood, using full-range mix");
+        rehash(size);
+    }
+
+    /**
+     * Rebuilds into {@code m} slots.  A key that finds no room makes the rebuild
+     * switch to the mix (if the table is still sparse) or grow, and start over.
+     */
+    private void rehash(int m) {
+        int[] all = new int[size()];
+        int   n   = 0;
+        for (int i = 0; i < size; i++)
+            if (used[i]) all[n++] = keys[i];
+        outer:
+        while (true) {
+            allocate(m);
+            for (int key : all) {
+                if (place(key) < 0) {
+                    if (!mixed && all.length <= LOAD_FACTOR_THRESHOLD / 2 * m) mixed = true;
+                    else m = 2 * m + 1;
+                    continue outer;
+                }
+            }
+            return;
+        }
+    }
+
+    @Override public void print() {
+        out.println("\n--- HopscotchHashTable ---");
+        for (int i = 0; i < size; i++) {
+            out.printf("%3d: %s%n", i, used[i] ? Integer.toString(keys[i]) : "·");
+        }
+        out.printf("insertions  : %d%n", insertions);
+        out.printf("collisions  : %d%n", collisions);
+        out.printf("collision%%  : %.2f%n",
+                insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        out.printf("capacity    : %d (%d resizes)%n", size, resizes);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions; }
+    @Override public int  getInsertions() { return insertions; }
+    @Override public int  getDuplicates() { return duplicates; }
+}
@@ -0,0 +1,514 @@
+package datastructures;
+
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Open‑address hash table over a flat {@code int[]} – no {@code Integer} boxing.
+ *
+ * Same three probe styles and statistics as {@link ProbingHashTable}, but slots
+ * hold the raw key and two sentinel values mark empty / deleted slots:
+ *  • EMPTY   = Integer.MIN_VALUE       – never used, ends a search
+ *  • DELETED = Integer.MIN_VALUE + 1   – tombstone, keeps search chains intact
+ *
+ * The two sentinel keys themselves cannot live in the array, so they are kept
+ * in a pair of side flags.  The {@code int} overloads of insert / contains /
+ * delete allocate nothing; the {@link HashTable} methods just unbox and delegate.
+ *
+ * Growth follows the same load‑factor threshold and growth policies as
+ * {@link ProbingHashTable}, and so does {@link #setReseeding reseeding}.
+ *
+ * The batch methods walk {@link #BATCH_GROUP} keys in lockstep: all hashes
+ * first, then one probe step for every unfinished key per round.  The slot
+ * loads of a round do not depend on each other, so the CPU keeps several
+ * cache misses in flight instead of paying them one after another.
+ */
+public class IntProbingHashTable implements HashTable, SlotView {
+
+    /** Slot value of a never‑used slot. */
+    public static final int EMPTY   = Integer.MIN_VALUE;
+    /** Slot value of a deleted slot (tombstone). */
+    public static final int DELETED = Integer.MIN_VALUE + 1;
+    /** Keys probed side by side by the batch methods. */
+    public static final int BATCH_GROUP = 16;
+
+    public int[] table;
+    private final ProbeType type;
+    private final HashFunction baseHash;        // selected hash
+    private HashFunction h1;                    // baseHash, or a SeededHash over it; called with the current m
+    private int h1Kind;                         // kindOf(h1)
+    private SplittableRandom seeds;             // non‑null while reseeding is on
+    private final int strideStep;               // stride growth per probe: 2 for QUADRATIC, else 0
+    private int size;
+    private final double loadFactor;
+    private final IntUnaryOperator growth;
+
+    /* keys equal to a sentinel are stored out of band */
+    private boolean hasEmptyKey   = false;
+    private boolean hasDeletedKey = false;
+
+    private int collisions  = 0;
+    private int insertions  = 0;
+    private int deletions   = 0;
+    private int duplicates  = 0;   // ignored duplicate‑key insert attempts
+    private int resizes     = 0;
+    private int reseeds     = 0;
+    private int reseedsAtSize = 0; // reseeds since the last growth
+
+    private int verbose     = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
+
+    /* scratch for locate(), reused by every batch call */
+    private final int[] batchSlot   = new int[BATCH_GROUP];    // next slot to probe
+    private final int[] batchStride = new int[BATCH_GROUP];
+    private final int[] batchStep   = new int[BATCH_GROUP];
+    private final int[] batchLive   = new int[BATCH_GROUP];    // keys still probing
+    private final int[] batchIdx    = new int[BATCH_GROUP];
+    private final int[] batchSeen   = new int[BATCH_GROUP];
+    private final int[] batchAt     = new int[BATCH_GROUP];    // slot of each key, or -1
+    private final int[] batchFree   = new int[BATCH_GROUP];    // first free slot of a miss, or -1
+    private final int[] batchSkip   = new int[BATCH_GROUP];    // live slots probed before it
+
+    // ---------- ctor ----------------------------------------------------
+
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
+    public IntProbingHashTable(int size, ProbeType type, char hashCode) {
+        this(size, type, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public IntProbingHashTable(int size, ProbeType type, HashFunction hash) {
+        this(size, type, hash, ProbingHashTable.LOAD_FACTOR_THRESHOLD,
+             type == ProbeType.LINEAR ? ProbingHashTable.GROW_DOUBLE : ProbingHashTable.GROW_NEXT_PRIME);
+    }
+
+    /**
+     * @param loadFactor   grow once (#live keys) / m would exceed this, in (0, 1]
+     * @param growthPolicy maps the current size m to the next, larger size
+     */
+    public IntProbingHashTable(int size, ProbeType type, char hashCode,
+                               double loadFactor, IntUnaryOperator growthPolicy) {
+        this(size, type, HashFunctionRegistry.forCode(hashCode), loadFactor, growthPolicy);
+    }
+
+    public IntProbingHashTable(int size, ProbeType type, HashFunction hash,
+                               double loadFactor, IntUnaryOperator growthPolicy) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        if (type == ProbeType.ROBIN_HOOD)
+            throw new IllegalArgumentException("ROBIN_HOOD is only supported by ProbingHashTable");
+        if (!(loadFactor > 0.0 && loadFactor <= 1.0))
+            throw new IllegalArgumentException("load factor must be in (0, 1]: " + loadFactor);
+        this.size       = size;
+        this.table      = newSlots(size);
+        this.type       = type;
+        this.baseHash   = hash;
+        this.h1         = hash;
+        this.h1Kind     = HashFunctionRegistry.kindOf(hash);
+        this.loadFactor = loadFactor;
+        this.growth     = growthPolicy;
+        this.strideStep = (type == ProbeType.QUADRATIC) ? 2 : 0;   // h + i²: strides 1, 3, 5, …
+    }
+
+    /** Sizes the table up front so {@code expectedKeys} inserts never trigger a resize. */
+    public static IntProbingHashTable withExpectedKeys(int expectedKeys, ProbeType type, char hashCode) {
+        return withExpectedKeys(expectedKeys, type, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public static IntProbingHashTable withExpectedKeys(int expectedKeys, ProbeType type, HashFunction hash) {
+        int m = (int) Math.ceil(expectedKeys / ProbingHashTable.LOAD_FACTOR_THRESHOLD) + 1;
+        if (type != ProbeType.LINEAR) m = ProbingHashTable.nextPrime(m);
+        return new IntProbingHashTable(m, type, hash);
+    }
+
+    private static int[] newSlots(int m) {
+        int[] slots = new int[m];
+        java.util.Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+    /**
+     * Turns seeded hashing on or off and rebuilds the table under the new
+     * hash.  While on, an insert that probes past {@link #probeLimit()}
+     * redraws the seed and rebuilds, at most {@link ProbingHashTable#MAX_RESEEDS}
+     * times before the table next grows.
+     */
+    public void setReseeding(boolean on) {
+        if (on == isReseeding()) return;
+        seeds  = on ? new SplittableRandom() : null;
+        h1     = on ? new SeededHash(baseHash, seeds.nextLong()) : baseHash;
+        h1Kind = HashFunctionRegistry.kindOf(h1);
+        reseedsAtSize = 0;
+        rebuild(size);
+    }
+
+    public boolean isReseeding() { return seeds != null; }
+
+    /** How many times a long probe run forced a new seed. */
+    public int getReseeds() { return reseeds; }
+
+    /** Probes an insert may take before a reseed; same bound as {@link ProbingHashTable#probeLimit()}. */
+    public int probeLimit() {
+        int bits = 32 - Integer.numberOfLeadingZeros(size);
+        return bits * (type == ProbeType.LINEAR
+                       ? ProbingHashTable.RESEED_LINEAR_FACTOR : ProbingHashTable.RESEED_SCATTER_FACTOR);
+    }
+
+    // ---------- primitive API ------------------------------------------
+
+    /** Inserts {@code key}; returns false for a duplicate. Allocation‑free. */
+    public boolean insert(int key) {
+        if (key == EMPTY || key == DELETED) {
+            return insertSentinel(key);
+        }
+        while (true) {
+            int idx    = home(key);
+            int stride = firstStride(key);
+
+            int firstFree = -1;                 // first tombstone seen
+            int skipped   = 0;                  // occupied slots before the free one
+            for (int i = 0; i < size; i++, idx = advance(idx, stride), stride = nextStride(stride)) {
+                int slot = table[idx];
+                if (slot == key) {
+                    duplicates++;
+                    return false;
+                }
+                if (slot == EMPTY) {
+                    if (place(firstFree >= 0 ? firstFree : idx, key, skipped)) return true;
+                    break;
+                }
+                if (slot == DELETED) {
+                    if (firstFree < 0) firstFree = idx;
+                } else if (firstFree < 0) {
+                    skipped++;
+                }
+            }
+            if (firstFree >= 0 && place(firstFree, key, skipped)) {
+                return true;
+            }
+            grow();                             // over the threshold or no free slot reached
+        }
+    }
+
+    /** True if {@code key} is present. Allocation‑free. */
+    public boolean contains(int key) {
+        if (key == EMPTY)   return hasEmptyKey;
+        if (key == DELETED) return hasDeletedKey;
+        return findSlot(key) >= 0;
+    }
+
+    /** Removes {@code key}; returns false if it was absent. Allocation‑free. */
+    public boolean delete(int key) {
+        boolean removed;
+        if (key == EMPTY || key == DELETED) {
+            removed = deleteSentinel(key);
+        } else {
+            int slot = findSlot(key);
+            removed = slot >= 0;
+            if (removed) {
+                table[slot] = DELETED;
+                deletions++;
+            }
+        }
+        if (verbose > 0)
+            out.printf("Delete %-5d : %s%n", key, removed ? "OK" : "not found");
+        return removed;
+    }
+
+    // ---------- batch API ----------------------------------------------
+
+    @Override public void findAll(int[] keys, int count, boolean[] out) {
+        if (out.length < count)
+            throw new IllegalArgumentException("out has " + out.length + " slots for " + count + " keys");
+        int[] at = batchAt;
+        for (int from = 0; from < count; from += BATCH_GROUP) {
+            int n = Math.min(BATCH_GROUP, count - from);
+            locate(keys, from, n);
+            for (int j = 0; j < n; j++) {
+                int key = keys[from + j];
+                out[from + j] = (key == EMPTY)   ? hasEmptyKey
+                              : (key == DELETED) ? hasDeletedKey
+                              : at[j] >= 0;
+            }
+        }
+    }
+
+    /**
+     * Screens each group in lockstep and stores every miss straight into the
+     * free slot its walk stopped at.  A key falls back to {@link #insert(int)}
+     * when that slot was taken by an earlier key of the group (a repeat of the
+     * same key included), when the table was rebuilt in between (grown or
+     * reseeded), or when the load threshold is reached.
+     */
+    @Override public int insertAll(int[] keys, int count) {
+        int[] at = batchAt, free = batchFree, skip = batchSkip;
+        int added = 0;
+        for (int from = 0; from < count; from += BATCH_GROUP) {
+            int n = Math.min(BATCH_GROUP, count - from);
+            locate(keys, from, n);
+            int[] slots = table;                // a rebuild moves every slot locate found
+            for (int j = 0; j < n; j++) {
+                int key = keys[from + j];
+                if (at[j] >= 0) {
+                    duplicates++;
+                } else if (free[j] >= 0 && table == slots
+                           && (table[free[j]] == EMPTY || table[free[j]] == DELETED)
+                           && place(free[j], key, skip[j])) {
+                    added++;
+                } else if (insert(key)) {
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    @Override public int deleteAll(int[] keys, int count) {
+        int[] at = batchAt;
+        int removed = 0;
+        for (int from = 0; from < count; from += BATCH_GROUP) {
+            int n = Math.min(BATCH_GROUP, count - from);
+            locate(keys, from, n);
+            for (int j = 0; j < n; j++) {
+                int key = keys[from + j];
+                if (key == EMPTY || key == DELETED) {
+                    if (delete(key)) removed++;                  // traces itself
+                    continue;
+                }
+                boolean hit = at[j] >= 0 && table[at[j]] == key; // a repeat in the group may have taken it
+                if (hit) {
+                    table[at[j]] = DELETED;
+                    deletions++;
+                    removed++;
+                }
+                if (verbose > 0)
+                    out.printf("Delete %-5d : %s%n", key, hit ? "OK" : "not found");
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Finds the slots of {@code keys[from .. from+n)} (n ≤ BATCH_GROUP) in
+     * lockstep: {@code batchAt[j]} becomes the slot index, or -1 if absent.
+     * For an absent key {@code batchFree[j]} is the slot insert would take
+     * (first tombstone, else the EMPTY that ended the walk; -1 if none) and
+     * {@code batchSkip[j]} the live slots before it.  Sentinel keys come back
+     * as -1 / -1; callers check the side flags.
+     */
+    private void locate(int[] keys, int from, int n) {
+        int[] next = batchSlot, stride = batchStride, step = batchStep;
+        int[] live = batchLive, idx = batchIdx, seen = batchSeen;
+        int[] at = batchAt, free = batchFree, skip = batchSkip;
+        int pending = 0;
+        for (int j = 0; j < n; j++) {
+            int key = keys[from + j];
+            at[j]   = -1;
+            free[j] = -1;
+            skip[j] = 0;
+            if (key == EMPTY || key == DELETED) continue;
+            next[j]   = home(key);
+            stride[j] = firstStride(key);
+            step[j]   = 0;
+            live[pending++] = j;
+        }
+        while (pending > 0) {
+            for (int p = 0; p < pending; p++) {     // independent loads only
+                int j = live[p];
+                idx[p]  = next[j];
+                seen[p] = table[idx[p]];
+            }
+            int still = 0;
+            for (int p = 0; p < pending; p++) {
+                int j = live[p], slot = seen[p];
+                if (slot == keys[from + j]) {
+                    at[j] = idx[p];
+                    continue;
+                }
+                if (free[j] < 0) {
+                    if (slot == EMPTY || slot == DELETED) free[j] = idx[p];
+                    else skip[j]++;
+                }
+                if (slot != EMPTY && ++step[j] < size) {
+                    next[j]   = advance(idx[p], stride[j]);
+                    stride[j] = nextStride(stride[j]);
+                    live[still++] = j;
+                }
+            }
+            pending = still;
+        }
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) { return insert(key.intValue()); }
+    @Override public boolean delete(Integer key) { return delete(key.intValue()); }
+    @Override public Integer find(Integer key)   { return contains(key.intValue()) ? key : null; }
+
+    @Override public int size() { return insertions - deletions; }
+
+    @Override public double averageProbes() {
+        return insertions == 0 ? 0.0 : 1.0 + (double) collisions / insertions;
+    }
+
+    /** Current number of slots m. */
+    @Override public int capacity() { return size; }
+
+    @Override public Integer slotKey(int i) {
+        int slot = table[i];
+        return (slot == EMPTY || slot == DELETED) ? null : slot;
+    }
+    @Override public boolean isTombstone(int i) { return table[i] == DELETED; }
+
+    /** How many times the table has grown. */
+    public int getResizes() { return resizes; }
+
+    // ---------- internals ----------------------------------------------
+
+    /** Stores a new key unless that would push the load past the threshold. */
+    private boolean place(int idx, int key, int skipped) {
+        if (size() + 1 > loadFactor * size) {
+            return false;
+        }
+        table[idx] = key;
+        insertions++;
+        collisions += skipped;
+        if (verbose > 0)
+            out.printf("Insert %-5d -> slot %-3d%n", key, idx);
+        if (seeds != null && skipped > probeLimit() && reseedsAtSize < ProbingHashTable.MAX_RESEEDS)
+            reseed(skipped);
+        return true;
+    }
+
+    private void grow() {
+        int newSize = growth.applyAsInt(size);
+        if (newSize <= size)
+            throw new IllegalStateException("Growth policy must enlarge the table: " + size + " -> " + newSize);
+        rebuild(newSize);
+        resizes++;
+        reseedsAtSize = 0;
+        if (verbose > 0)
+            out.printf("Resize -> %d slots%n", size);
+    }
+
+    /** Reinserts every key into fresh slots of {@code newSize} (more if a probe cycle fails). */
+    private void rebuild(int newSize) {
+        int[] old = table;
+        while (true) {
+            size  = newSize;
+            table = newSlots(newSize);
+            boolean ok = true;
+            for (int key : old) {
+                if (key != EMPTY && key != DELETED && !insertInternal(key)) {
+                    ok = false;
+                    break;
+                }
+            }
+            if (ok) break;
+            newSize = growth.applyAsInt(newSize);   // unlucky probe cycle – try the next size up
+        }
+    }
+
+    private void reseed(int probes) {
+        h1     = new SeededHash(baseHash, seeds.nextLong());
+        h1Kind = HashFunctionRegistry.kindOf(h1);
+        rebuild(size);
+        reseeds++;
+        reseedsAtSize++;
+        if (verbose > 0)
+            out.printf("Reseed -> %d probes for one insert; new hash seed%n", probes);
+    }
+
+    /** Rehash helper; ignores LF check and statistics. */
+    private boolean insertInternal(int key) {
+        int idx    = home(key);
+        int stride = firstStride(key);
+        for (int i = 0; i < size; i++, idx = advance(idx, stride), stride = nextStride(stride)) {
+            if (table[idx] == EMPTY) {
+                table[idx] = key;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int findSlot(int key) {
+        int idx    = home(key);
+        int stride = firstStride(key);
+        for (int i = 0; i < size; i++, idx = advance(idx, stride), stride = nextStride(stride)) {
+            int slot = table[idx];
+            if (slot == key)   return idx;
+            if (slot == EMPTY) return -1;
+        }
+        return -1;
+    }
+
+    private boolean insertSentinel(int key) {
+        boolean present = (key == EMPTY) ? hasEmptyKey : hasDeletedKey;
+        if (present) {
+            duplicates++;
+            return false;
+        }
+        if (key == EMPTY) hasEmptyKey = true; else hasDeletedKey = true;
+        insertions++;
+        return true;
+    }
+
+    private boolean deleteSentinel(int key) {
+        boolean present = (key == EMPTY) ? hasEmptyKey : hasDeletedKey;
+        if (!present) return false;
+        if (key == EMPTY) hasEmptyKey = false; else hasDeletedKey = false;
+        deletions++;
+        return true;
+    }
+
+    /*
+     * Probe sequence, walked as in ProbingHashTable:
+     *     idx ← idx + stride,  stride ← stride + strideStep   (mod m)
+     * LINEAR stride 1 step 0, DOUBLE_HASHING stride h₂ step 0, QUADRATIC
+     * stride 1 step 2 (→ h + i²).  Nothing is multiplied, so nothing
+     * overflows however large m gets.
+     */
+
+    private int home(int key) {
+        return Math.floorMod(HashFunctionRegistry.hash(h1Kind, h1, key, size), size);   // fibonacci is negative for k < 0
+    }
+
+    private int firstStride(int key) {
+        return (type == ProbeType.DOUBLE_HASHING) ? HashFunctions.secondHash(key, size) : 1;
+    }
+
+    private int advance(int idx, int stride) {
+        int next = idx + stride;                // both < m ≤ 2^30
+        return next >= size ? next - size : next;
+    }
+
+    private int nextStride(int stride) {
+        int next = stride + strideStep;
+        return next >= size ? next % size : next;
+    }
+
+    @Override public void print() {
+        out.println("\n--- IntProbingHashTable ---");
+        for (int i = 0; i < size; i++) {
+            int slot = table[i];
+            out.printf("%3d: %s%n", i,
+                    slot == EMPTY ? "·" : slot == DELETED ? "⊘" : Integer.toString(slot));
+        }
+        if (hasEmptyKey)   out.printf("  +: %d%n", EMPTY);
+        if (hasDeletedKey) out.printf("  +: %d%n", DELETED);
+        out.printf("insertions  : %d%n", insertions);
+        out.printf("collisions  : %d%n", collisions);
+        out.printf("collision%%  : %.2f%n",
+                insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        out.printf("capacity    : %d (%d resizes)%n", size, resizes);
+        if (reseeds > 0)
+            out.printf("reseeds     : %d%n", reseeds);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions; }
+    @Override public int  getInsertions() { return insertions; }
+    @Override public int  getDuplicates() { return duplicates; }
+}
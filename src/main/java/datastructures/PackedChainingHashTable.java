@@ -0,0 +1,320 @@
+package datastructures;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Separate chaining with each bucket packed into a growable {@code int[]}.
+ *
+ * {@link SeparateChainingHashTable} pays a list node plus a boxed Integer per
+ * key (40+ bytes, scattered over the heap) and allocates an empty list for
+ * every bucket up front.  Here a bucket is just a segment of primitive keys and
+ * a count: the segment is allocated on the first insert into that bucket,
+ * doubles when full, and a scan is one sequential pass over a few cache lines.
+ * Delete moves the last key of the segment into the hole, so order inside a
+ * bucket is not kept.
+ *
+ * Growth follows {@link SeparateChainingHashTable}: off by default, 2m + 1
+ * buckets past {@link #LOAD_FACTOR_THRESHOLD} with ONE_SHOT or INCREMENTAL.
+ * So does {@link #setReseeding reseeding}: a segment longer than
+ * {@link #chainLimit()} rebuilds the buckets under a fresh {@link SeededHash}.
+ */
+public class PackedChainingHashTable implements HashTable, BucketView {
+
+    /** grow when (#keys) / m > this threshold (resizing modes only) */
+    public static final double LOAD_FACTOR_THRESHOLD = 1.0;
+    /** Old buckets moved per operation while an incremental resize is in flight. */
+    public static final int MIGRATION_STEP = 4;
+    /** Keys in a freshly allocated segment. */
+    private static final int FIRST_SEGMENT = 4;
+    /** Reseeds allowed before the table next grows. */
+    public static final int MAX_RESEEDS = 4;
+
+    /* —— state —— */
+    private int[][] segments;                   // null until the bucket's first insert
+    private int[]   counts;
+    private final HashFunction baseHash;        // selected hash
+    private HashFunction hashFn;                // baseHash, or a SeededHash over it; called with the current m
+    private int hashKind;                       // kindOf(hashFn)
+    private SplittableRandom seeds;             // non‑null while reseeding is on
+    private ResizeMode resizeMode = ResizeMode.NONE;
+
+    /* incremental resize: previous buckets, drained front to back */
+    private int[][] oldSegments;
+    private int[]   oldCounts;
+    private int     migrated;
+
+    private int collisions  = 0;
+    private int insertions  = 0;
+    private int deletions   = 0;
+    private int duplicates  = 0;
+    private int resizes     = 0;
+    private int reseeds     = 0;
+    private int reseedsAtSize = 0;              // reseeds since the last growth
+
+    private int verbose     = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
+
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
+    public PackedChainingHashTable(int size, char hashCode) {
+        this(size, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public PackedChainingHashTable(int size, HashFunction hash) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        this.baseHash = hash;
+        this.hashFn = hash;
+        this.hashKind = HashFunctionRegistry.kindOf(hash);
+        allocate(size);
+    }
+
+    private void allocate(int m) {
+        segments = new int[m][];
+        counts   = new int[m];
+    }
+
+    /** Selects whether / how the table grows; finishes any resize already in flight. */
+    public void setResizeMode(ResizeMode mode) {
+        finishResize();
+        this.resizeMode = mode;
+    }
+
+    public ResizeMode getResizeMode() { return resizeMode; }
+
+    /** How many times the table has grown. */
+    public int getResizes() { return resizes; }
+
+    /**
+     * Turns seeded hashing on or off and rebuilds the buckets under the new
+     * hash.  While on, an insert that leaves a segment longer than
+     * {@link #chainLimit()} redraws the seed and rebuilds, at most
+     * {@link #MAX_RESEEDS} times before the table next grows.
+     */
+    public void setReseeding(boolean on) {
+        if (on == isReseeding()) return;
+        finishResize();
+        seeds    = on ? new SplittableRandom() : null;
+        hashFn   = on ? new SeededHash(baseHash, seeds.nextLong()) : baseHash;
+        hashKind = HashFunctionRegistry.kindOf(hashFn);
+        reseedsAtSize = 0;
+        rebuild(counts.length);
+    }
+
+    public boolean isReseeding() { return seeds != null; }
+
+    /** How many times a long segment forced a new seed. */
+    public int getReseeds() { return reseeds; }
+
+    /** Longest segment a random hash plausibly produces; same bound as {@link SeparateChainingHashTable#chainLimit()}. */
+    public int chainLimit() {
+        int    bits = 32 - Integer.numberOfLeadingZeros(counts.length);
+        double mu   = (double) size() / counts.length;
+        return (int) Math.ceil(mu + 2 * Math.sqrt(mu * bits) + bits);
+    }
+
+    /** Buckets that currently own a segment. */
+    public int allocatedBuckets() {
+        int n = 0;
+        for (int[] s : segments) if (s != null) n++;
+        return n;
+    }
+
+    // ---------- primitive API ------------------------------------------
+
+    /** Inserts {@code key}; returns false for a duplicate. */
+    public boolean insert(int key) {
+        migrateStep();
+        int idx = bucketOf(counts, key);
+        if (indexOf(segments, counts, idx, key) >= 0
+                || (oldSegments != null
+                    && indexOf(oldSegments, oldCounts, bucketOf(oldCounts, key), key) >= 0)) {
+            duplicates++;
+            return false;
+        }
+        if (counts[idx] > 0) collisions++;       // collision ⇔ bucket non-empty
+        append(segments, counts, idx, key);
+        insertions++;
+        if (verbose > 0)
+            out.printf("Insert %-5d -> slot %-3d  (bucket size %d)%n", key, idx, counts[idx]);
+        if (seeds != null && counts[idx] > chainLimit() && reseedsAtSize < MAX_RESEEDS) {
+            reseed(counts[idx]);
+        }
+        if (resizeMode != ResizeMode.NONE && size() > LOAD_FACTOR_THRESHOLD * counts.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /** True if {@code key} is present. */
+    public boolean contains(int key) {
+        migrateStep();
+        return indexOf(segments, counts, bucketOf(counts, key), key) >= 0
+                || (oldSegments != null
+                    && indexOf(oldSegments, oldCounts, bucketOf(oldCounts, key), key) >= 0);
+    }
+
+    /** Removes {@code key}; returns false if it was absent. */
+    public boolean delete(int key) {
+        migrateStep();
+        boolean removed = removeFrom(segments, counts, bucketOf(counts, key), key)
+                || (oldSegments != null
+                    && removeFrom(oldSegments, oldCounts, bucketOf(oldCounts, key), key));
+        if (removed) deletions++;
+        if (verbose > 0)
+            out.printf("Delete %-5d : %s%n", key, removed ? "OK" : "not found");
+        return removed;
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) { return insert(key.intValue()); }
+    @Override public boolean delete(Integer key) { return delete(key.intValue()); }
+
+    @Override public Integer find(Integer key) {
+        boolean found = contains(key.intValue());
+        if (verbose > 1)
+            out.printf("Search %-5d : %s%n", key, found ? "found" : "not found");
+        return found ? key : null;
+    }
+
+    @Override public int size() { return insertions - deletions; }
+
+    @Override public double averageProbes() {
+        return insertions == 0 ? 0.0 : 1.0 + (double) collisions / insertions;
+    }
+
+    @Override public int capacity() { return counts.length; }
+
+    @Override public Collection<Integer> bucket(int i) {
+        List<Integer> keys = new ArrayList<>(counts[i]);
+        for (int j = 0; j < counts[i]; j++) keys.add(segments[i][j]);
+        return keys;
+    }
+
+    // ---------- segments -----------------------------------------------
+
+    private int bucketOf(int[] counts, int key) {
+        return Math.floorMod(HashFunctionRegistry.hash(hashKind, hashFn, key, counts.length), counts.length);    // fibonacci is negative for k < 0
+    }
+
+    private static int indexOf(int[][] segs, int[] counts, int idx, int key) {
+        int[] s = segs[idx];
+        for (int j = 0, n = counts[idx]; j < n; j++)
+            if (s[j] == key) return j;
+        return -1;
+    }
+
+    private static void append(int[][] segs, int[] counts, int idx, int key) {
+        int[] s = segs[idx];
+        int   n = counts[idx];
+        if (s == null) {
+            s = segs[idx] = new int[FIRST_SEGMENT];
+        } else if (n == s.length) {
+            s = segs[idx] = Arrays.copyOf(s, 2 * n);
+        }
+        s[n] = key;
+        counts[idx] = n + 1;
+    }
+
+    private static boolean removeFrom(int[][] segs, int[] counts, int idx, int key) {
+        int j = indexOf(segs, counts, idx, key);
+        if (j < 0) return false;
+        int last = --counts[idx];
+        segs[idx][j] = segs[idx][last];         // fill the hole with the last key
+        return true;
+    }
+
+    // ---------- resizing -----------------------------------------------
+
+    private void grow() {
+        int newSize = 2 * counts.length + 1;
+        if (resizeMode == ResizeMode.INCREMENTAL) {
+            finishResize();
+            oldSegments = segments;
+            oldCounts   = counts;
+            migrated    = 0;
+            allocate(newSize);
+        } else {
+            rebuild(newSize);
+        }
+        resizes++;
+        reseedsAtSize = 0;
+        if (verbose > 0)
+            out.printf("Resize -> %d buckets%s%n", newSize,
+                    resizeMode == ResizeMode.INCREMENTAL ? " (incremental)" : "");
+    }
+
+    /** Moves every key into {@code newSize} fresh buckets under the current hash. */
+    private void rebuild(int newSize) {
+        int[][] prevSegments = segments;
+        int[]   prevCounts   = counts;
+        allocate(newSize);
+        for (int i = 0; i < prevCounts.length; i++)
+            for (int j = 0; j < prevCounts[i]; j++) {
+                int key = prevSegments[i][j];
+                append(segments, counts, bucketOf(counts, key), key);
+            }
+    }
+
+    private void reseed(int chain) {
+        finishResize();
+        hashFn   = new SeededHash(baseHash, seeds.nextLong());
+        hashKind = HashFunctionRegistry.kindOf(hashFn);
+        rebuild(counts.length);
+        reseeds++;
+        reseedsAtSize++;
+        if (verbose > 0)
+            out.printf("Reseed -> chain of %d; new hash seed%n", chain);
+    }
+
+    /** Moves the next {@link #MIGRATION_STEP} old buckets into the current table. */
+    private void migrateStep() {
+        if (oldSegments == null) return;
+        int end = Math.min(oldCounts.length, migrated + MIGRATION_STEP);
+        for (; migrated < end; migrated++) {
+            for (int j = 0; j < oldCounts[migrated]; j++) {
+                int key = oldSegments[migrated][j];
+                append(segments, counts, bucketOf(counts, key), key);
+            }
+            oldSegments[migrated] = null;
+            oldCounts[migrated]   = 0;
+        }
+        if (migrated == oldCounts.length) {
+            oldSegments = null;
+            oldCounts   = null;
+            migrated    = 0;
+        }
+    }
+
+    /** Completes an in‑flight incremental resize (no‑op otherwise). */
+    public void finishResize() {
+        while (oldSegments != null) migrateStep();
+    }
+
+    @Override public void print() {
+        out.println("\nCurrent state of the hash table:");
+        for (int i = 0; i < counts.length; i++) {
+            out.printf("Slot %2d: %s%n", i, counts[i] == 0 ? "empty" : bucket(i));
+        }
+        out.printf("%nTotal collisions : %d%n", collisions);
+        out.printf("Total insertions : %d%n", insertions);
+        out.printf("Collision rate   : %.2f%n",
+                insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        out.printf("Segments         : %d of %d buckets allocated%n", allocatedBuckets(), counts.length);
+        if (resizes > 0)
+            out.printf("Buckets          : %d (%d resizes)%n", counts.length, resizes);
+        if (reseeds > 0)
+            out.printf("Reseeds          : %d%n", reseeds);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions; }
+    @Override public int  getInsertions() { return insertions; }
+    @Override public int  getDuplicates() { return duplicates; }
+}
@@ -1,5 +1,5 @@
 package datastructures;
 
 public enum ProbeType {
-    LINEAR, QUADRATIC, DOUBLE_HASHING
+    LINEAR, QUADRATIC, DOUBLE_HASHING, ROBIN_HOOD
 }
\ No newline at end of file
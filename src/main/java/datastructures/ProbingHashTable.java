@@ -1,45 +1,197 @@
 package datastructures;
 
-import java.util.Arrays;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
 import java.util.function.IntUnaryOperator;
 
 import datastructures.NotImplemented;
 
 /**
- * Open‑address hash table supporting three probe styles:
+ * Open‑address hash table supporting four probe styles:
  *  • LINEAR:      – (h + i) mod m
  *  • QUADRATIC:   – (h + i²) mod m
  *  • DOUBLE_HASH: – (h + i * h₂) mod m
+ *  • ROBIN_HOOD:  – linear sequence; an insert takes the slot of any key that
+ *                   sits closer to its home, so probe lengths stay even.
  *
  * A tombstone array lets us mark deletions without breaking search chains.
+ * LINEAR deletes need none: the rest of the cluster is shifted back over the
+ * hole wherever that keeps each key reachable from its home (Knuth's
+ * Algorithm R).  QUADRATIC and DOUBLE_HASHING do leave tombstones, but once
+ * they pass {@link #setTombstoneThreshold a fraction} of the slots the table
+ * re‑seats its live keys in place and drops them all.
+ * Robin Hood keeps each slot's probe distance instead: a search stops as soon
+ * as it passes a key closer to home than itself, and deletes shift the
+ * following run back one slot, so it never needs tombstones.
+ *
+ * {@link #withPowerOfTwoCapacity} keeps m a power of two, so probes wrap with
+ * a mask instead of %, and QUADRATIC steps by triangular numbers, which visit
+ * every slot before repeating.
+ *
+ * The table grows automatically: once (#live keys) / m would pass the load‑factor
+ * threshold, the arrays are replaced by larger ones chosen by the growth policy
+ * and every live key is re‑inserted (tombstones are dropped on the way).
+ * With {@link ResizeMode#INCREMENTAL} the old arrays are kept instead and drained
+ * {@link #MIGRATION_STEP} slots per insert / delete / find, so no single operation
+ * pays for the whole rehash; lookups consult both tables until the move is done.
+ *
+ * With {@link #setReseeding reseeding} on, keys pass through a randomly seeded
+ * {@link SeededHash} first, and an insert that probes past {@link #probeLimit()}
+ * rebuilds the table at the same size under a fresh seed, so no fixed key set
+ * (clustered keys under division, say) can keep probe runs long.
  *
  *  Author: Hybinette (draft)
  */
-public class ProbingHashTable implements HashTable {
+public class ProbingHashTable implements HashTable, SlotView {
 
-    public final Integer[] table;
-    public final boolean[] tombstone;
-    private final ProbeType  type;
-    private final IntUnaryOperator h1;          // primary hash
-    private final int size;
     /** rehash when (#live keys) / m > this threshold */
-    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+    public static final double LOAD_FACTOR_THRESHOLD = 0.75;
+
+    /** Grow policy: 2m + 1 (keeps the size odd). */
+    public static final IntUnaryOperator GROW_DOUBLE     = m -> 2 * m + 1;
+    /** Grow policy: smallest prime ≥ 2m + 1 (full cycles for quadratic / double hashing). */
+    public static final IntUnaryOperator GROW_NEXT_PRIME = m -> nextPrime(2 * m + 1);
+    /** m → 2m; keeps a power‑of‑two capacity a power of two. */
+    public static final IntUnaryOperator GROW_POWER_OF_TWO = m -> 2 * m;
+
+    /** Old slots moved per operation while an incremental resize is in flight. */
+    public static final int MIGRATION_STEP = 8;
+    /** Default tombstone share of m that triggers an in‑place cleanup. */
+    public static final double TOMBSTONE_THRESHOLD = 0.25;
+    /** Probe limit per bit of m, LINEAR / ROBIN_HOOD (a random hash stays near 11 log₂ m at load 0.75). */
+    public static final int RESEED_LINEAR_FACTOR = 20;
+    /** Probe limit per bit of m, QUADRATIC / DOUBLE_HASHING (a random hash stays below 3 log₂ m). */
+    public static final int RESEED_SCATTER_FACTOR = 6;
+    /** Reseeds allowed before the table next grows. */
+    public static final int MAX_RESEEDS = 4;
+
+    public Integer[] table;
+    public boolean[] tombstone;
+    private int[] dist;                         // ROBIN_HOOD only: probe distance per slot
+    private final ProbeType  type;
+    private final HashFunction baseHash;        // selected hash
+    private HashFunction h1;                    // baseHash, or a SeededHash over it; called with the current m
+    private int h1Kind;                         // kindOf(h1)
+    private SplittableRandom seeds;             // non‑null while reseeding is on
+    private int size;
+    private final double loadFactor;
+    private final IntUnaryOperator growth;
+    private final boolean powerOfTwo;           // m = 2^k: wrap with a mask
+    private final int strideStep;               // stride growth per probe, fixed by type + capacity mode
+    private ResizeMode resizeMode = ResizeMode.ONE_SHOT;
+    private double tombstoneThreshold = TOMBSTONE_THRESHOLD;
+    private int tombstones = 0;                 // tombstones in the current table
+
+    /* incremental resize: previous arrays, drained front to back */
+    private Integer[] oldTable;
+    private boolean[] oldTombstone;
+    private int oldSize;
+    private int migrated;                       // old slots [0, migrated) already moved
 
     private int collisions  = 0;
     private int insertions  = 0;
     private int deletions   = 0;
     private int duplicates  = 0;   // ignored duplicate‑key insert attempts
+    private int resizes     = 0;
+    private int cleanups    = 0;   // in‑place tombstone purges
+    private int reseeds     = 0;
+    private int reseedsAtSize = 0; // reseeds since the last growth
 
     private int verbose     = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
 
     // ---------- ctor ----------------------------------------------------
 
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
     public ProbingHashTable(int size, ProbeType type, char hashCode) {
-        this.size      = size;
-        this.table     = new Integer[size];
-        this.tombstone = new boolean[size];
-        this.type      = type;
-        this.h1        = chooseHash(hashCode, size);
+        this(size, type, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public ProbingHashTable(int size, ProbeType type, HashFunction hash) {
+        this(size, type, hash, LOAD_FACTOR_THRESHOLD, defaultGrowth(type));
+    }
+
+    /**
+     * @param loadFactor   grow once (#live keys) / m would exceed this, in (0, 1]
+     * @param growthPolicy maps the current size m to the next, larger size
+     */
+    public ProbingHashTable(int size, ProbeType type, char hashCode,
+                            double loadFactor, IntUnaryOperator growthPolicy) {
+        this(size, type, HashFunctionRegistry.forCode(hashCode), loadFactor, growthPolicy);
+    }
+
+    public ProbingHashTable(int size, ProbeType type, HashFunction hash,
+                            double loadFactor, IntUnaryOperator growthPolicy) {
+        this(size, type, hash, loadFactor, growthPolicy, false);
+    }
+
+    private ProbingHashTable(int size, ProbeType type, HashFunction hash,
+                             double loadFactor, IntUnaryOperator growthPolicy, boolean powerOfTwo) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        if (!(loadFactor > 0.0 && loadFactor <= 1.0))
+            throw new IllegalArgumentException("load factor must be in (0, 1]: " + loadFactor);
+        this.size       = size;
+        this.table      = new Integer[size];
+        this.tombstone  = new boolean[size];
+        this.type       = type;
+        this.dist       = newDist(size);
+        this.baseHash   = hash;
+        this.h1         = hash;
+        this.h1Kind     = HashFunctionRegistry.kindOf(hash);
+        this.loadFactor = loadFactor;
+        this.growth     = growthPolicy;
+        this.powerOfTwo = powerOfTwo;
+        this.strideStep = (type != ProbeType.QUADRATIC) ? 0
+                        : powerOfTwo ? 1            // h + i(i+1)/2: triangular numbers
+                        : 2;                        // h + i²: strides 1, 3, 5, …
+    }
+
+    /**
+     * Power‑of‑two capacity: {@code size} is rounded up to 2^k (at least 8) and
+     * the table doubles when it grows.  Probes wrap with a mask, double hashing
+     * uses an odd step, and QUADRATIC probes h + i(i+1)/2, which reaches every
+     * slot – so an insert only grows the table for load, never for an
+     * unreachable free slot.
+     */
+    public static ProbingHashTable withPowerOfTwoCapacity(int size, ProbeType type, char hashCode) {
+        return withPowerOfTwoCapacity(size, type, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public static ProbingHashTable withPowerOfTwoCapacity(int size, ProbeType type, HashFunction hash) {
+        int m = 8;
+        while (m < size) {
+            if (m == 1 << 30)
+                throw new IllegalArgumentException("size too large for a power-of-two table: " + size);
+            m <<= 1;
+        }
+        return new ProbingHashTable(m, type, hash, LOAD_FACTOR_THRESHOLD, GROW_POWER_OF_TWO, true);
+    }
+
+    /** True if m is kept a power of two (see {@link #withPowerOfTwoCapacity}). */
+    public boolean isPowerOfTwo() { return powerOfTwo; }
+
+    /** Sizes the table up front so {@code expectedKeys} inserts never trigger a resize. */
+    public static ProbingHashTable withExpectedKeys(int expectedKeys, ProbeType type, char hashCode) {
+        return withExpectedKeys(expectedKeys, type, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public static ProbingHashTable withExpectedKeys(int expectedKeys, ProbeType type, HashFunction hash) {
+        int m = (int) Math.ceil(expectedKeys / LOAD_FACTOR_THRESHOLD) + 1;
+        if (type != ProbeType.LINEAR) m = nextPrime(m);
+        return new ProbingHashTable(m, type, hash);
+    }
+
+    /** As above, but filled to {@code loadFactor} (which is also the grow threshold) instead of the default. */
+    public static ProbingHashTable withExpectedKeys(int expectedKeys, double loadFactor,
+                                                    ProbeType type, HashFunction hash) {
+        int m = (int) Math.ceil(expectedKeys / loadFactor) + 1;
+        if (type != ProbeType.LINEAR) m = nextPrime(m);
+        return new ProbingHashTable(m, type, hash, loadFactor, defaultGrowth(type));
+    }
+
+    private static IntUnaryOperator defaultGrowth(ProbeType type) {
+        return type == ProbeType.LINEAR ? GROW_DOUBLE : GROW_NEXT_PRIME;
     }
 
     // ---------- HashTable API ------------------------------------------
@@ -50,11 +202,74 @@ public class ProbingHashTable implements HashTable {
         return insertions == 0 ? 0.0 : 1.0 + (double) collisions / insertions;
     }
 
+    /** Current number of slots m. */
+    @Override public int capacity() { return size; }
+
+    @Override public Integer slotKey(int i)     { return table[i]; }
+    @Override public boolean isTombstone(int i) { return tombstone[i]; }
+
+    /** How many times the table has grown. */
+    public int getResizes() { return resizes; }
+
+    /** Selects how the table grows; finishes any resize already in flight. */
+    public void setResizeMode(ResizeMode mode) {
+        finishResize();
+        this.resizeMode = mode;
+    }
+
+    public ResizeMode getResizeMode() { return resizeMode; }
+
+    /** True while an incremental resize still has old slots to move. */
+    public boolean isResizing() { return oldTable != null; }
+
+    /** Tombstones currently in the table. */
+    public int getTombstones() { return tombstones; }
+
+    /** How many in‑place tombstone cleanups have run. */
+    public int getCleanups() { return cleanups; }
+
+    /**
+     * Tombstone share of m, in (0, 1], above which a delete triggers an in‑place
+     * cleanup (QUADRATIC / DOUBLE_HASHING; LINEAR and ROBIN_HOOD leave none).
+     */
+    public void setTombstoneThreshold(double threshold) {
+        if (!(threshold > 0.0 && threshold <= 1.0))
+            throw new IllegalArgumentException("tombstone threshold must be in (0, 1]: " + threshold);
+        this.tombstoneThreshold = threshold;
+    }
+
+    /**
+     * Turns seeded hashing on or off and rebuilds the table under the new
+     * hash.  While on, an insert that probes past {@link #probeLimit()}
+     * redraws the seed and rebuilds, at most {@link #MAX_RESEEDS} times
+     * before the table next grows.
+     */
+    public void setReseeding(boolean on) {
+        if (on == isReseeding()) return;
+        finishResize();
+        seeds  = on ? new SplittableRandom() : null;
+        h1     = on ? new SeededHash(baseHash, seeds.nextLong()) : baseHash;
+        h1Kind = HashFunctionRegistry.kindOf(h1);
+        reseedsAtSize = 0;
+        rebuild(size);
+    }
+
+    public boolean isReseeding() { return seeds != null; }
+
+    /** How many times a long probe run forced a new seed. */
+    public int getReseeds() { return reseeds; }
+
+    /** Probes an insert may take before a reseed: a multiple of log₂ m that a random hash stays under. */
+    public int probeLimit() {
+        int bits = 32 - Integer.numberOfLeadingZeros(size);
+        return bits * (type == ProbeType.LINEAR || type == ProbeType.ROBIN_HOOD
+                       ? RESEED_LINEAR_FACTOR : RESEED_SCATTER_FACTOR);
+    }
 
     @Override public boolean insert(Integer key) {
         /*
          * TODO  LINEAR, QUADRATIC and DOUBLE-HASH) INSERT
-         *  call probe() method to switch between linear/quadratic and double hashing
+         *  walk the probe sequence with home() / advance() / nextStride()
          *
          * High-level checklist:
          *   1. Compute the primary bucket index using the table’s hash function.
@@ -66,7 +281,7 @@ public class ProbingHashTable implements HashTable {
          *      *(A **tombstone** is a slot that was deleted earlier; we mark it so the
          *      probe sequence doesn’t break, but it can be reused by a later insert.)*
          *   4. Duplicate key encountered → count duplicate, return false.
-         *   5. If you exhaust all m slots → throw IllegalStateException(“Hash table full”).
+         *   5. If you exhaust all m slots → grow the table and try again.
          *
          * Update these statistics:
          *   insertions  – successful puts
@@ -74,35 +289,63 @@ public class ProbingHashTable implements HashTable {
          *   duplicates  – ignored duplicate keys
          */
 
-        int h  = h1.applyAsInt(key);
-        int dh = (type == ProbeType.DOUBLE_HASHING)
-                ? HashFunctions.secondHash(key, table.length)
-                : 1;
-
-        for (int i = 0; i < size; i++) {
-            int idx = probe(h, dh, i);
-            if (table[idx] != null) {
-                // occupied
-                if (!tombstone[idx] && table[idx].equals(key)) {
-                    duplicates++;
-                    return false;
+        migrateStep();
+        if (oldTable != null && findSlotIn(oldTable, oldTombstone, oldSize, key) >= 0) {
+            duplicates++;                       // not moved over yet
+            return false;
+        }
+        if (type == ProbeType.ROBIN_HOOD) {
+            return robinHoodInsert(key);
+        }
+        while (true) {
+            int idx    = home(hash1(key, size), size);
+            int stride = firstStride(key, size);
+
+            int firstFree = -1;                 // first tombstone passed
+            int skipped   = 0;                  // occupied slots before the free one
+            for (int i = 0; i < size; i++, idx = advance(idx, stride, size), stride = nextStride(stride, size)) {
+                if (table[idx] != null) {
+                    // occupied
+                    if (table[idx].equals(key)) {
+                        duplicates++;
+                        return false;
+                    }
+                    if (firstFree < 0) skipped++;
+                } else if (tombstone[idx]) {
+                    // reusable, but the key may still sit further along the chain
+                    if (firstFree < 0) firstFree = idx;
+                } else {
+                    // empty slot: key is absent
+                    if (place(firstFree >= 0 ? firstFree : idx, key, skipped)) return watchProbes(skipped);
+                    break;
                 }
-                collisions++;
-            } else {
-                // empty slot or tombstone
-                table[idx] = key;
-                tombstone[idx] = false;
-                insertions++;
-                return true;
             }
+            if (firstFree >= 0 && place(firstFree, key, skipped)) {
+                return watchProbes(skipped);
+            }
+            // over the load factor, or the probe sequence found no free slot
+            // (e.g. a quadratic cycle) – grow and retry
+            grow();
+        }
+    }
+
+    /** Stores a new key unless that would push the load past the threshold. */
+    private boolean place(int idx, Integer key, int skipped) {
+        if (size() + 1 > loadFactor * size) {
+            return false;
         }
-        throw new IllegalStateException("Hash table full");
+        if (tombstone[idx]) tombstones--;
+        table[idx] = key;
+        tombstone[idx] = false;
+        insertions++;
+        collisions += skipped;
+        return true;
     }
 
     private int findSlot(Integer key) {
         /*
          * TODO  SEARCH PROBE  (used by find() & delete() below )
-         *  call probe() to hop through the table using the current strategy
+         *  hop through the table with advance() using the current strategy
          *
          * High-level checklist: (1, 2 is very similar to insert())
          *   1. Compute the primary bucket index with the table’s hash function.
@@ -120,78 +363,317 @@ public class ProbingHashTable implements HashTable {
          *   5. Otherwise keep probing; after table.length probes return -1
          *        (ensures we never loop forever even if the table is full).
          */
-        int h  = h1.applyAsInt(key);
-        int dh = (type == ProbeType.DOUBLE_HASHING)
-                ? HashFunctions.secondHash(key, table.length)
-                : 1;
-        for (int i = 0; i < size; i++) {
-            int idx = probe(h, dh, i);
-            if (table[idx] == null && !tombstone[idx]) {
+        if (type == ProbeType.ROBIN_HOOD) {
+            return robinHoodFind(key);
+        }
+        return findSlotIn(table, tombstone, size, key);
+    }
+
+    /** Probe for {@code key} in one generation of arrays (current or pre‑resize). */
+    private int findSlotIn(Integer[] t, boolean[] tomb, int m, Integer key) {
+        int idx    = home(hash1(key, m), m);
+        int stride = firstStride(key, m);
+        for (int i = 0; i < m; i++, idx = advance(idx, stride, m), stride = nextStride(stride, m)) {
+            if (t[idx] == null && !tomb[idx]) {
                 return -1;
             }
-            if (table[idx] != null && !tombstone[idx] && table[idx].equals(key)) {
+            if (t[idx] != null && t[idx].equals(key)) {
                 return idx;
             }
         }
         return -1;
     }
 
+    /**
+     * Batch lookup: groups of {@link IntProbingHashTable#BATCH_GROUP} keys are
+     * probed in lockstep, one step per unfinished key per round, so their slot
+     * and Integer loads overlap.  Robin Hood and an in‑flight incremental resize
+     * fall back to one {@link #find} per key.
+     */
+    @Override public void findAll(int[] keys, int count, boolean[] out) {
+        if (type == ProbeType.ROBIN_HOOD || oldTable != null) {
+            HashTable.super.findAll(keys, count, out);
+            return;
+        }
+        if (out.length < count)
+            throw new IllegalArgumentException("out has " + out.length + " slots for " + count + " keys");
+        final int group = IntProbingHashTable.BATCH_GROUP;
+        int[] at     = new int[group];
+        int[] stride = new int[group];
+        int[] step   = new int[group];
+        boolean[] open = new boolean[group];
+        for (int from = 0; from < count; from += group) {
+            int n = Math.min(group, count - from);
+            int pending = n;
+            for (int j = 0; j < n; j++) {
+                int key = keys[from + j];
+                at[j]     = home(hash1(key, size), size);
+                stride[j] = firstStride(key, size);
+                step[j]   = 0;
+                open[j] = true;
+                out[from + j] = false;
+            }
+            while (pending > 0) {
+                for (int j = 0; j < n; j++) {
+                    if (!open[j]) continue;
+                    int idx = at[j];
+                    Integer slot = table[idx];
+                    if (slot != null && slot == keys[from + j]) {
+                        out[from + j] = true;
+                        open[j] = false;
+                        pending--;
+                    } else if ((slot == null && !tombstone[idx]) || ++step[j] == size) {
+                        open[j] = false;
+                        pending--;
+                    } else {
+                        at[j]     = advance(idx, stride[j], size);
+                        stride[j] = nextStride(stride[j], size);
+                    }
+                }
+            }
+        }
+    }
+
     @Override public Integer find(Integer key) {
         // TODO – lookup: use findSlot(key); return key if found, else null.
+        migrateStep();
         int slot = findSlot(key);
-        return slot >= 0 ? table[slot] : null;
+        if (slot >= 0) return table[slot];
+        if (oldTable != null) {
+            slot = findSlotIn(oldTable, oldTombstone, oldSize, key);
+            if (slot >= 0) return oldTable[slot];
+        }
+        return null;
     }
 
     /* ---------- DELETE --------------------------------------------------- */
     @Override
     public boolean delete(Integer key) {
         // TODO – delete: locate with findSlot(key); mark tombstone, ++deletions.
+        migrateStep();
         int slot = findSlot(key);
-        if (slot < 0) {
-            return false;
+        if (slot >= 0 && type == ProbeType.ROBIN_HOOD) {
+            backwardShift(slot);
+        } else if (slot >= 0 && type == ProbeType.LINEAR) {
+            shiftBackLinear(slot);
+        } else if (slot >= 0) {
+            table[slot] = null;
+            tombstone[slot] = true;
+            if (++tombstones > tombstoneThreshold * size) purgeTombstones();
+        } else {
+            if (oldTable == null) return false;
+            slot = findSlotIn(oldTable, oldTombstone, oldSize, key);
+            if (slot < 0) return false;
+            oldTable[slot] = null;
+            oldTombstone[slot] = true;
         }
-        table[slot] = null;
-        tombstone[slot] = true;
         deletions++;
         return true;
     }
 
-    private int probe(int h, int dh, int i) {
-        return switch (type) {
-            case LINEAR          -> (h + i)      % size;
-            case QUADRATIC       -> (h + i * i)  % size;
-            case DOUBLE_HASHING  -> (h + i * dh) % size;
-        };
+    /**
+     * LINEAR delete without a tombstone: empties {@code hole}, then walks the
+     * rest of the cluster and moves back every key whose home does not lie
+     * cyclically in (hole, j] – i.e. every key that probed across the hole.
+     */
+    private void shiftBackLinear(int hole) {
+        table[hole] = null;
+        for (int n = 1, j = hole; n < size; n++) {
+            j = advance(j, 1, size);
+            if (table[j] == null) {
+                if (!tombstone[j]) return;      // end of the cluster
+                continue;                       // a leftover tombstone still links the chain
+            }
+            int home = home(hash1(table[j], size), size);
+            boolean staysReachable = (hole <= j) ? (hole < home && home <= j)
+                                                 : (hole < home || home <= j);
+            if (!staysReachable) {
+                table[hole] = table[j];
+                table[j]    = null;
+                hole        = j;
+            }
+        }
+    }
+
+    /**
+     * Drops every tombstone without reallocating.  Live keys are flagged as
+     * unplaced (reusing the tombstone array), then each one moves to the first
+     * slot of its probe sequence that is empty or still unplaced – swapping
+     * with the unplaced key found there.  Placed keys never move again, so each
+     * probe chain ends up covered by keys that stay put.
+     */
+    private void purgeTombstones() {
+        for (int i = 0; i < size; i++) tombstone[i] = table[i] != null;     // true = unplaced
+        for (int i = 0; i < size; i++) {
+            while (tombstone[i]) {
+                Integer key = table[i];
+                int idx    = home(hash1(key, size), size);
+                int stride = firstStride(key, size);
+                int target = i;
+                for (int step = 0; step < size; step++, idx = advance(idx, stride, size), stride = nextStride(stride, size)) {
+                    if (table[idx] == null || tombstone[idx]) {
+                        target = idx;
+                        break;
+                    }
+                }
+                tombstone[target] = false;
+                if (target == i) break;
+                table[i]      = table[target];  // null, or another unplaced key to seat next
+                table[target] = key;
+                if (table[i] == null) tombstone[i] = false;
+            }
+        }
+        tombstones = 0;
+        cleanups++;
+        if (verbose > 0)
+            out.printf("Cleanup -> tombstones dropped in place (%d slots)%n", size);
+    }
+
+    /*
+     * Probe sequence.  Every style is walked as
+     *     idx ← idx + stride,  stride ← stride + strideStep   (mod m)
+     * with the constants fixed at construction:
+     *     LINEAR / ROBIN_HOOD   stride 1    step 0
+     *     DOUBLE_HASHING        stride h₂   step 0   (h₂ made odd when m = 2^k)
+     *     QUADRATIC             stride 1    step 2   → h + i²
+     *                                       step 1   → h + i(i+1)/2 when m = 2^k
+     * so the loops carry no switch and no multiply, nothing overflows, and with
+     * a power‑of‑two m no division either.
+     */
+
+    /** h1(key, m) without an interface call for the built‑ins; see {@link HashFunctionRegistry#hash}. */
+    private int hash1(int key, int m) {
+        return HashFunctionRegistry.hash(h1Kind, h1, key, m);
+    }
+
+    private int home(int h, int m) {
+        return powerOfTwo ? h & (m - 1) : Math.floorMod(h, m);  // fibonacci is negative for k < 0
     }
 
-    private static IntUnaryOperator chooseHash(char code, int size) {
-        return switch (code) {
-            case 'i' -> k -> HashFunctions.division(k, size);
-            case 'm' -> k -> HashFunctions.multiplication(k, size);
-            case 's' -> k -> HashFunctions.midsquare(k, size);
-            case 'o' -> k -> HashFunctions.folding(k, size);
-            case 'f' -> k -> HashFunctions.fibonacci(k, size);
-            case 'r' -> k -> HashFunctions.random(k, size);
-            case 'c' -> k -> HashFunctions.custom(k, size);
-            case 'd' -> k -> HashFunctions.some_other_hash_function(k, size);
-            default  -> k -> HashFunctions.division(k, size);
-        };
+    private int firstStride(Integer key, int m) {
+        if (type != ProbeType.DOUBLE_HASHING) return 1;
+        int dh = HashFunctions.secondHash(key, m);
+        return powerOfTwo ? dh | 1 : dh;        // odd ⇒ coprime with 2^k
+    }
+
+    private int advance(int idx, int stride, int m) {
+        int next = idx + stride;                // both < m ≤ 2^30
+        return powerOfTwo ? next & (m - 1) : (next >= m ? next - m : next);
+    }
+
+    private int nextStride(int stride, int m) {
+        int next = stride + strideStep;
+        return powerOfTwo ? next & (m - 1) : (next >= m ? next % m : next);
+    }
+
+    /* ---------- ROBIN HOOD ---------------------------------------------- */
+
+    private int[] newDist(int m) {
+        return type == ProbeType.ROBIN_HOOD ? new int[m] : null;
+    }
+
+    private boolean robinHoodInsert(Integer key) {
+        if (robinHoodFind(key) >= 0) {
+            duplicates++;
+            return false;
+        }
+        if (size() + 1 > loadFactor * size) {
+            grow();
+        }
+        int d = robinHoodPlace(key);
+        collisions += d;
+        insertions++;
+        return watchProbes(d);
+    }
+
+    /**
+     * Walks from the home slot, swapping the carried key with any resident that
+     * is closer to its own home ("take from the rich").  Returns how far the new
+     * key ended up from home.  The load‑factor check guarantees an empty slot.
+     */
+    private int robinHoodPlace(Integer key) {
+        Integer carry = key;
+        int d   = 0;
+        int idx = home(hash1(key, size), size);
+        int placedAt = -1;
+        while (true) {
+            if (table[idx] == null) {
+                table[idx] = carry;
+                dist[idx]  = d;
+                return placedAt < 0 ? d : placedAt;
+            }
+            if (dist[idx] < d) {
+                Integer t = table[idx]; table[idx] = carry; carry = t;
+                int td    = dist[idx];  dist[idx]  = d;     d     = td;
+                if (placedAt < 0) placedAt = dist[idx];
+            }
+            idx = advance(idx, 1, size);
+            d++;
+        }
+    }
+
+    /** Stops early once the resident is closer to home than we are. */
+    private int robinHoodFind(Integer key) {
+        int idx = home(hash1(key, size), size);
+        for (int d = 0; d < size; d++) {
+            if (table[idx] == null || dist[idx] < d) {
+                return -1;
+            }
+            if (table[idx].equals(key)) {
+                return idx;
+            }
+            idx = advance(idx, 1, size);
+        }
+        return -1;
+    }
+
+    /** Empties {@code slot} and pulls the rest of its run one step back toward home. */
+    private void backwardShift(int slot) {
+        int i = slot;
+        while (true) {
+            int j = advance(i, 1, size);
+            if (table[j] == null || dist[j] == 0) break;
+            table[i] = table[j];
+            dist[i]  = dist[j] - 1;
+            i = j;
+        }
+        table[i] = null;
+        dist[i]  = 0;
+    }
+
+    /** Longest probe distance currently in the table (ROBIN_HOOD only, else -1). */
+    public int maxProbeLength() {
+        if (dist == null) return -1;
+        int max = 0;
+        for (int i = 0; i < size; i++)
+            if (table[i] != null && dist[i] > max) max = dist[i];
+        return max;
     }
 
     @Override public void print() {
-        System.out.println("\n--- ProbingHashTable ---");
+        out.println("\n--- ProbingHashTable ---");
         for (int i = 0; i < size; i++) {
-            System.out.printf("%3d: %s%n", i,
+            out.printf("%3d: %s%n", i,
                     table[i] == null ? (tombstone[i] ? "⊘" : "·")
                             : table[i].toString());
         }
-        System.out.printf("insertions  : %d%n", insertions);
-        System.out.printf("collisions  : %d%n", collisions);
-        System.out.printf("collision%%  : %.2f%n",
+        out.printf("insertions  : %d%n", insertions);
+        out.printf("collisions  : %d%n", collisions);
+        out.printf("collision%%  : %.2f%n",
                 insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        out.printf("capacity    : %d (%d resizes)%n", size, resizes);
+        if (tombstones > 0 || cleanups > 0)
+            out.printf("tombstones  : %d (%d cleanups)%n", tombstones, cleanups);
+        if (type == ProbeType.ROBIN_HOOD)
+            out.printf("max probe   : %d%n", maxProbeLength());
+        if (oldTable != null)
+            out.printf("migrating   : %d / %d old slots moved%n", migrated, oldSize);
+        if (reseeds > 0)
+            out.printf("reseeds     : %d%n", reseeds);
     }
 
     @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
     @Override public int  getCollisions() { return collisions; }
     @Override public int  getInsertions() { return insertions; }
     @Override public int getDuplicates() { return duplicates; }
@@ -201,102 +683,152 @@ public class ProbingHashTable implements HashTable {
     /*  Rehash helpers                                                    */
     /* ------------------------------------------------------------------ */
 
-    /** Doubles the table size (next odd number) and reinserts live keys. */
-    private void rehash() {
-        int newSize = size * 2 + 1;          // simple grow policy
-        Integer[] oldTable     = table.clone();
-        boolean[] oldTombstone = tombstone.clone();
-
-        Arrays.fill(table, null);
-        Arrays.fill(tombstone, false);
-        collisions = 0;                      // reset stats
-        insertions = 0;
-        deletions  = 0;
-
-        for (int i = 0; i < oldTable.length; i++) {
-            if (oldTable[i] != null && !oldTombstone[i]) {
-                insertInternal(oldTable[i]); // helper that skips LF test
-            }
+    /** Grows the table via the growth policy, all at once or incrementally. */
+    private void grow() {
+        if (resizeMode == ResizeMode.NONE)
+            throw new IllegalStateException("Hash table full");
+        int newSize = growth.applyAsInt(size);
+        if (newSize <= size)
+            throw new IllegalStateException("Growth policy must enlarge the table: " + size + " -> " + newSize);
+        if (resizeMode == ResizeMode.INCREMENTAL) {
+            startMigration(newSize);
+        } else {
+            rehash(newSize);
         }
     }
 
-    /** Insert used internally during rehashing; ignores LF check. */
-    private void insertInternal(Integer key) {
-        int h  = h1.applyAsInt(key);
-        int dh = (type == ProbeType.DOUBLE_HASHING)
-                ? HashFunctions.secondHash(key, table.length)
-                : 1;
-        for (int i = 0; i < table.length; i++) {
-            int idx = probe(h, dh, i);
-            if (table[idx] == null) {
-                table[idx] = key;
-                insertions++;
-                return;
-            }
+    /** Rebuilds the arrays at {@code newSize} slots; statistics are kept. */
+    private void rehash(int newSize) {
+        rebuild(newSize);
+        resizes++;
+        reseedsAtSize = 0;
+        if (verbose > 0)
+            out.printf("Resize -> %d slots%n", size);
+    }
+
+    /** Reinserts every key into fresh arrays of {@code newSize} slots (more if a probe cycle fails). */
+    private void rebuild(int newSize) {
+        Integer[] current = table;
+        Integer[] pending = oldTable;           // non‑null if an incremental move was cut short
+        dropOld();
+
+        while (true) {
+            size      = newSize;
+            table     = new Integer[newSize];
+            tombstone = new boolean[newSize];
+            tombstones = 0;
+            dist      = newDist(newSize);
+
+            if (reinsertAll(current) && (pending == null || reinsertAll(pending))) break;
+            newSize = growth.applyAsInt(newSize);   // unlucky probe cycle – try the next size up
+        }
+    }
+
+    /** Reseeds if an insert just probed further than a random hash plausibly would; always true. */
+    private boolean watchProbes(int probes) {
+        if (seeds != null && probes > probeLimit() && reseedsAtSize < MAX_RESEEDS) {
+            finishResize();
+            h1 = new SeededHash(baseHash, seeds.nextLong());
+            h1Kind = HashFunctionRegistry.kindOf(h1);
+            rebuild(size);
+            reseeds++;
+            reseedsAtSize++;
+            if (verbose > 0)
+                out.printf("Reseed -> %d probes for one insert; new hash seed%n", probes);
         }
-        throw new IllegalStateException("Rehash failed: table too small");
+        return true;
+    }
+
+    private boolean reinsertAll(Integer[] keys) {
+        for (Integer key : keys) {
+            if (key != null && !insertInternal(key)) return false;
+        }
+        return true;
+    }
+
+    /** Swaps in empty arrays and keeps the current ones around for {@link #migrateStep()}. */
+    private void startMigration(int newSize) {
+        finishResize();
+        oldTable     = table;
+        oldTombstone = tombstone;
+        oldSize      = size;
+        migrated     = 0;
+
+        size      = newSize;
+        table     = new Integer[newSize];
+        tombstone = new boolean[newSize];
+        tombstones = 0;
+        dist      = newDist(newSize);
+        resizes++;
+        reseedsAtSize = 0;
+        if (verbose > 0)
+            out.printf("Resize -> %d slots (incremental)%n", size);
     }
 
     /**
-     * Runs 500‐insert experiments on m=101 for:
-     *   – Hash codes: division(i), mult(m), random(r), midsquare(s), folding(o)
-     *   – Probe types: LINEAR, QUADRATIC, DOUBLE_HASHING
-     *   – Key patterns: Uniform, Clustered
-     *
-     * Prints a TSV: Hash\tPattern\tProbe\tCollisions\tDuplicates\tAvgProbes
+     * Moves the next {@link #MIGRATION_STEP} old slots into the current table.
+     * A moved slot becomes a tombstone so old probe chains stay walkable.
      */
-    public static void main(String[] args) {
-        final int M = 101, N = 500;
-        java.util.Random rng = new java.util.Random(42);
-
-        // Build the two key-lists
-        java.util.List<Integer> uniform = new java.util.ArrayList<>(N);
-        for (int i = 0; i < N; i++) uniform.add(rng.nextInt(50_000));
-
-        java.util.List<Integer> clustered = new java.util.ArrayList<>(N);
-        for (int i = 0; i < N/2; i++) clustered.add(rng.nextInt(500));
-        for (int i = 0; i < N/2; i++) clustered.add(8_000 + rng.nextInt(500));
-
-        java.util.Map<String,java.util.List<Integer>> patterns = java.util.Map.of(
-                "Uniform", uniform,
-                "Clustered", clustered
-        );
-
-        // The five hash codes and three probe styles
-        char[] hashCodes = {'i','m','r','s','o'};
-        ProbeType[] probes = {
-                ProbeType.LINEAR,
-                ProbeType.QUADRATIC,
-                ProbeType.DOUBLE_HASHING
-        };
-
-        // Header
-        System.out.printf("Hash\tPattern\tProbe\tCollisions\tDuplicates\tAvgProbes%n");
-
-        // Run each combo
-        for (char code : hashCodes) {
-            for (var entry : patterns.entrySet()) {
-                String pattern = entry.getKey();
-                for (ProbeType pt : probes) {
-                    ProbingHashTable tbl = new ProbingHashTable(M, pt, code);
-                    for (int k : entry.getValue()) {
-                        try {
-                            tbl.insert(k);
-                        } catch (IllegalStateException full) {
-                            break;  // table full
-                        }
-                    }
-                    System.out.printf(
-                            "%c\t%s\t%s\t%d\t%d\t%.3f%n",
-                            code,
-                            pattern,
-                            pt,
-                            tbl.getCollisions(),
-                            tbl.getDuplicates(),
-                            tbl.averageProbes()
-                    );
+    private void migrateStep() {
+        if (oldTable == null) return;
+        int end = Math.min(oldSize, migrated + MIGRATION_STEP);
+        for (; migrated < end; migrated++) {
+            Integer key = oldTable[migrated];
+            if (key == null) continue;
+            if (!insertInternal(key)) {
+                rehash(growth.applyAsInt(size));    // new table has no room – fall back to one shot
+                return;
+            }
+            oldTable[migrated]     = null;
+            oldTombstone[migrated] = true;
+        }
+        if (migrated == oldSize) dropOld();
+    }
+
+    /** Completes an in‑flight incremental resize (no‑op otherwise). */
+    public void finishResize() {
+        while (oldTable != null) migrateStep();
+    }
+
+    private void dropOld() {
+        oldTable     = null;
+        oldTombstone = null;
+        oldSize      = 0;
+        migrated     = 0;
+    }
+
+    /** Insert used internally during rehashing; ignores LF check and statistics. */
+    private boolean insertInternal(Integer key) {
+        if (type == ProbeType.ROBIN_HOOD) {
+            robinHoodPlace(key);                // load check guarantees a free slot
+            return true;
+        }
+        int idx    = home(hash1(key, size), size);
+        int stride = firstStride(key, size);
+        for (int i = 0; i < size; i++, idx = advance(idx, stride, size), stride = nextStride(stride, size)) {
+            if (table[idx] == null) {
+                if (tombstone[idx]) {           // migration may land on a tombstone
+                    tombstone[idx] = false;
+                    tombstones--;
                 }
+                table[idx] = key;
+                return true;
             }
         }
+        return false;
+    }
+
+    static int nextPrime(int n) {
+        if (n <= 2) return 2;
+        int p = (n % 2 == 0) ? n + 1 : n;
+        while (!isPrime(p)) p += 2;
+        return p;
+    }
+
+    private static boolean isPrime(int n) {
+        if (n % 2 == 0) return n == 2;
+        for (int d = 3; (long) d * d <= n; d += 2)
+            if (n % d == 0) return false;
+        return true;
     }
 }
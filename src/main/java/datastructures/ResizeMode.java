@@ -0,0 +1,11 @@
+package datastructures;
+
+/** How a table makes room once it passes its load‑factor threshold. */
+public enum ResizeMode {
+    /** Never grow (open addressing throws "Hash table full"). */
+    NONE,
+    /** Rehash every key into the larger table in one go. */
+    ONE_SHOT,
+    /** Keep both tables and move a few buckets per operation. */
+    INCREMENTAL
+}
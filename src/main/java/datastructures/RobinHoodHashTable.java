@@ -0,0 +1,13 @@
+package datastructures;
+
+/** Convenience wrapper: open-address table with Robin Hood linear probing. */
+public class RobinHoodHashTable extends ProbingHashTable {
+
+    public RobinHoodHashTable(int size, char hashCode) {
+        super(size, ProbeType.ROBIN_HOOD, hashCode);
+    }
+
+    public RobinHoodHashTable(int size) {
+        this(size, 'd');
+    }
+}
\ No newline at end of file
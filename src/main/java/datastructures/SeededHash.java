@@ -0,0 +1,37 @@
+package datastructures;
+
+import java.util.SplittableRandom;
+
+/**
+ * A member of a universal family built on top of any {@link HashFunction}:
+ * the key is first scrambled with Dietzfelbinger's multiply‑add‑shift
+ * h(x) = ⌊(a·x + b) mod 2^64 / 2^32⌋ (a odd, a and b drawn from the seed),
+ * and the selected hash is applied to the result.
+ *
+ * No fixed key set can be bad for most seeds, so a table that sees long
+ * probe runs or chains can draw a new seed and rehash (see
+ * {@link ProbingHashTable#setReseeding}).
+ */
+public final class SeededHash implements HashFunction {
+
+    private final HashFunction base;
+    private final int baseKind;                 // see HashFunctionRegistry.kindOf
+    private final long a, b;
+
+    public SeededHash(HashFunction base, long seed) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        this.base     = base;
+        this.baseKind = HashFunctionRegistry.kindOf(base);
+        this.a        = rng.nextLong() | 1;
+        this.b        = rng.nextLong();
+    }
+
+    /** The key as the underlying hash sees it. */
+    public int scramble(int key) {
+        return (int) ((a * (key & 0xFFFFFFFFL) + b) >>> 32);
+    }
+
+    @Override public int hash(int key, int m) {
+        return HashFunctionRegistry.hash(baseKind, base, scramble(key), m);
+    }
+}
@@ -1,43 +1,148 @@
 package datastructures;
 
+import java.io.PrintStream;
+import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
 
-public class SeparateChainingHashTable implements HashTable {
+/**
+ * Hash table with one linked‑list bucket per slot.
+ *
+ * Resizing is off by default ({@link ResizeMode#NONE}) so chains show how a
+ * hash function spreads keys over a fixed m.  With ONE_SHOT or INCREMENTAL the
+ * table grows to 2m + 1 buckets once the average chain length passes
+ * {@link #LOAD_FACTOR_THRESHOLD}; INCREMENTAL moves {@link #MIGRATION_STEP}
+ * old buckets per insert / delete / find and searches both tables meanwhile.
+ *
+ * A bucket that grows past {@link #TREEIFY_THRESHOLD} keys (a weak hash or a
+ * clustered key set) turns into a {@link TreeSet}, so insert / find / delete on
+ * it cost O(log n) instead of a full list scan; it turns back into a list once
+ * it shrinks to {@link #UNTREEIFY_THRESHOLD}.  The gap between the two keeps a
+ * bucket from flipping back and forth.
+ *
+ * With {@link #setReseeding reseeding} on, keys pass through a randomly seeded
+ * {@link SeededHash} first, and a chain longer than {@link #chainLimit()}
+ * rebuilds the buckets under a fresh seed.
+ */
+public class SeparateChainingHashTable implements HashTable, BucketView {
+
+    /** grow when (#keys) / m > this threshold (resizing modes only) */
+    public static final double LOAD_FACTOR_THRESHOLD = 1.0;
+    /** Old buckets moved per operation while an incremental resize is in flight. */
+    public static final int MIGRATION_STEP = 4;
+    /** A list bucket longer than this becomes a tree. */
+    public static final int TREEIFY_THRESHOLD = 8;
+    /** A tree bucket this small becomes a list again. */
+    public static final int UNTREEIFY_THRESHOLD = 6;
+    /** Reseeds allowed before the table next grows. */
+    public static final int MAX_RESEEDS = 4;
 
     /* —— state —— */
-    public final LinkedList<Integer>[] table;   // exposed for GUI visualiser
-    private final java.util.function.IntUnaryOperator hashFn;
+    public Collection<Integer>[] table;         // LinkedList or TreeSet; exposed for GUI visualiser
+    private final HashFunction baseHash;        // selected hash
+    private HashFunction hashFn;                // baseHash, or a SeededHash over it; called with the current m
+    private int hashKind;                       // kindOf(hashFn)
+    private SplittableRandom seeds;             // non‑null while reseeding is on
+    private ResizeMode resizeMode = ResizeMode.NONE;
     private int collisions = 0, insertions = 0;
     private int deletions  = 0;
+    private int resizes    = 0;
+    private int treeified  = 0;                 // buckets currently held as trees
+    private int reseeds    = 0;
+    private int reseedsAtSize = 0;              // reseeds since the last growth
 
     private int duplicates = 0;      // number of duplicate inserts ignored
 
     private int verbose = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
 
+    /* incremental resize: previous buckets, drained front to back */
+    private Collection<Integer>[] oldTable;
+    private int migrated;                       // old buckets [0, migrated) already moved
 
-    @SuppressWarnings("unchecked")
+
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
     public SeparateChainingHashTable(int size, char hashCode) {
-        table = new LinkedList[size];
-        for (int i = 0; i < size; i++) table[i] = new LinkedList<>();
-
-        hashFn = switch (hashCode) {
-            case 'i' -> k -> HashFunctions.division(k, size);   // NEW letter
-            case 'm' -> k -> HashFunctions.multiplication(k, size);
-            case 's' -> k -> HashFunctions.midsquare(k, size);
-            case 'o' -> k -> HashFunctions.folding(k, size);
-            case 'f' -> k -> HashFunctions.fibonacci(k, size);
-            case 'r' -> k -> HashFunctions.random(k, size);
-            case 'c' -> k -> HashFunctions.custom(k, size);
-            case 'd' -> k -> HashFunctions.some_other_hash_function(k, size);
-            default  -> k -> HashFunctions.division(k, size);
-        };
+        this(size, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public SeparateChainingHashTable(int size, HashFunction hash) {
+        table    = newBuckets(size);
+        baseHash = hash;
+        hashFn   = hash;
+        hashKind = HashFunctionRegistry.kindOf(hashFn);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Integer>[] newBuckets(int size) {
+        Collection<Integer>[] buckets = new Collection[size];
+        for (int i = 0; i < size; i++) buckets[i] = new LinkedList<>();
+        return buckets;
+    }
+
+    /** Selects whether / how the table grows; finishes any resize already in flight. */
+    public void setResizeMode(ResizeMode mode) {
+        finishResize();
+        this.resizeMode = mode;
+    }
+
+    public ResizeMode getResizeMode() { return resizeMode; }
+
+    /** True while an incremental resize still has old buckets to move. */
+    public boolean isResizing() { return oldTable != null; }
+
+    /** Current number of buckets m. */
+    @Override public int capacity() { return table.length; }
+
+    @Override public Collection<Integer> bucket(int i) { return table[i]; }
+
+    /** How many times the table has grown. */
+    public int getResizes() { return resizes; }
+
+    /** Buckets currently stored as balanced trees. */
+    public int getTreeifiedBuckets() { return treeified; }
+
+    /**
+     * Turns seeded hashing on or off and rebuilds the buckets under the new
+     * hash.  While on, an insert that leaves a chain longer than
+     * {@link #chainLimit()} redraws the seed and rebuilds, at most
+     * {@link #MAX_RESEEDS} times before the table next grows.
+     */
+    public void setReseeding(boolean on) {
+        if (on == isReseeding()) return;
+        finishResize();
+        seeds    = on ? new SplittableRandom() : null;
+        hashFn   = on ? new SeededHash(baseHash, seeds.nextLong()) : baseHash;
+        hashKind = HashFunctionRegistry.kindOf(hashFn);
+        reseedsAtSize = 0;
+        rebuild(table.length);
+    }
+
+    public boolean isReseeding() { return seeds != null; }
+
+    /** How many times a long chain forced a new seed. */
+    public int getReseeds() { return reseeds; }
+
+    /**
+     * Longest chain a random hash plausibly produces: the mean chain length μ
+     * plus 2√(μ log₂ m) + log₂ m (Chernoff‑style slack over m buckets).
+     */
+    public int chainLimit() {
+        int    bits = 32 - Integer.numberOfLeadingZeros(table.length);
+        double mu   = (double) size() / table.length;
+        return (int) Math.ceil(mu + 2 * Math.sqrt(mu * bits) + bits);
     }
 
     /* ==== HashTable API =================================================== */
     @Override public boolean insert(Integer key) {
-        int idx = hashFn.applyAsInt(key);
-        LinkedList<Integer> bucket = table[idx];
+        migrateStep();
+        if (oldTable != null && oldTable[index(key, oldTable.length)].contains(key)) {
+            duplicates++;                                // not moved over yet
+            return false;
+        }
+        int idx = index(key, table.length);
+        Collection<Integer> bucket = table[idx];
 
         if (bucket.contains(key)) {                      // duplicate key
             duplicates++;
@@ -46,44 +151,64 @@ public class SeparateChainingHashTable implements HashTable {
         //if (bucket.contains(key)) return false;          // ignore duplicates
 
         if (!bucket.isEmpty()) { collisions++; }         // collision ⇔ bucket non-empty
-        bucket.addFirst(key);
+        add(table, idx, key);
         insertions++;
 
         if (verbose > 0)
-            System.out.printf("Insert %-5d -> slot %-3d  (bucket size %d)%n",
-                    key, idx, bucket.size());
+            out.printf("Insert %-5d -> slot %-3d  (bucket size %d)%n",
+                    key, idx, table[idx].size());
+
+        if (seeds != null && table[idx].size() > chainLimit() && reseedsAtSize < MAX_RESEEDS) {
+            reseed(table[idx].size());
+        }
+        if (resizeMode != ResizeMode.NONE && size() > LOAD_FACTOR_THRESHOLD * table.length) {
+            grow();
+        }
         return true;
     }
 
     @Override public boolean delete(Integer key) {
-        int idx = hashFn.applyAsInt(key);
-        boolean removed = table[idx].remove(key);
+        migrateStep();
+        int idx = index(key, table.length);
+        boolean removed = remove(table, idx, key);
+        if (!removed && oldTable != null)
+            removed = remove(oldTable, index(key, oldTable.length), key);
         if (removed) deletions++;
         if (verbose > 0)
-            System.out.printf("Delete %-5d : %s%n", key,
+            out.printf("Delete %-5d : %s%n", key,
                     removed ? "OK" : "not found");
         return removed;
     }
 
     @Override public Integer find(Integer key) {
-        int idx = hashFn.applyAsInt(key);
-        boolean found = table[idx].contains(key);
+        migrateStep();
+        int idx = index(key, table.length);
+        boolean found = table[idx].contains(key)
+                || (oldTable != null && oldTable[index(key, oldTable.length)].contains(key));
         if (verbose > 1)
-            System.out.printf("Search %-5d : %s%n", key,
+            out.printf("Search %-5d : %s%n", key,
                     found ? "found" : "not found");
         return found ? key : null;
     }
 
     @Override public void print() {
-        System.out.println("\nCurrent state of the hash table:");
+        out.println("\nCurrent state of the hash table:");
         for (int i = 0; i < table.length; i++) {
-            System.out.printf("Slot %2d: %s%n", i,
+            out.printf("Slot %2d: %s%n", i,
                     table[i].isEmpty() ? "empty" : table[i]);
         }
-        System.out.printf("%nTotal collisions : %d%n", collisions);
-        System.out.printf("Total insertions : %d%n", insertions);
-        System.out.printf("Collision rate   : %.2f%n",
+        out.printf("%nTotal collisions : %d%n", collisions);
+        out.printf("Total insertions : %d%n", insertions);
+        out.printf("Collision rate   : %.2f%n",
                 insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        if (resizes > 0)
+            out.printf("Buckets          : %d (%d resizes)%n", table.length, resizes);
+        if (oldTable != null)
+            out.printf("Migrating        : %d / %d old buckets moved%n", migrated, oldTable.length);
+        if (treeified > 0)
+            out.printf("Tree buckets     : %d%n", treeified);
+        if (reseeds > 0)
+            out.printf("Reseeds          : %d%n", reseeds);
     }
 
     @Override public int getCollisions() { return collisions; }
@@ -91,6 +216,7 @@ public class SeparateChainingHashTable implements HashTable {
     @Override public int getInsertions() { return insertions; }
 
     @Override public void setVerbose(int level) { verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
     @Override
     public int size() {
         return insertions - deletions;
@@ -105,4 +231,96 @@ public class SeparateChainingHashTable implements HashTable {
     public int getDuplicates() {
         return duplicates;
     }
+
+    /* ==== bucket shape ===================================================== */
+
+    /** Adds an absent key to bucket {@code idx}, turning a long list into a tree. */
+    private void add(Collection<Integer>[] buckets, int idx, Integer key) {
+        Collection<Integer> bucket = buckets[idx];
+        if (bucket instanceof LinkedList<Integer> list) {
+            list.addFirst(key);
+            if (list.size() > TREEIFY_THRESHOLD) {
+                buckets[idx] = new TreeSet<>(list);
+                treeified++;
+            }
+        } else {
+            bucket.add(key);
+        }
+    }
+
+    /** Removes {@code key} from bucket {@code idx}, turning a small tree back into a list. */
+    private boolean remove(Collection<Integer>[] buckets, int idx, Integer key) {
+        Collection<Integer> bucket = buckets[idx];
+        if (!bucket.remove(key)) return false;
+        if (bucket instanceof TreeSet<Integer> tree && tree.size() <= UNTREEIFY_THRESHOLD) {
+            buckets[idx] = new LinkedList<>(tree);
+            treeified--;
+        }
+        return true;
+    }
+
+    /* ==== resizing ======================================================== */
+
+    private void grow() {
+        int newSize = 2 * table.length + 1;
+        if (resizeMode == ResizeMode.INCREMENTAL) {
+            finishResize();
+            oldTable  = table;
+            migrated  = 0;
+            table     = newBuckets(newSize);
+        } else {
+            rebuild(newSize);
+        }
+        resizes++;
+        reseedsAtSize = 0;
+        if (verbose > 0)
+            out.printf("Resize -> %d buckets%s%n", newSize,
+                    resizeMode == ResizeMode.INCREMENTAL ? " (incremental)" : "");
+    }
+
+    /** Moves every key into {@code newSize} fresh buckets under the current hash. */
+    private void rebuild(int newSize) {
+        Collection<Integer>[] previous = table;
+        table     = newBuckets(newSize);
+        treeified = 0;
+        for (Collection<Integer> bucket : previous)
+            for (Integer key : bucket) add(table, index(key, table.length), key);
+    }
+
+    private void reseed(int chain) {
+        finishResize();
+        hashFn   = new SeededHash(baseHash, seeds.nextLong());
+        hashKind = HashFunctionRegistry.kindOf(hashFn);
+        rebuild(table.length);
+        reseeds++;
+        reseedsAtSize++;
+        if (verbose > 0)
+            out.printf("Reseed -> chain of %d; new hash seed%n", chain);
+    }
+
+    /** Bucket of {@code key} among m; fibonacci is negative for k < 0. */
+    private int index(Integer key, int m) {
+        return Math.floorMod(HashFunctionRegistry.hash(hashKind, hashFn, key, m), m);
+    }
+
+    /** Moves the next {@link #MIGRATION_STEP} old buckets into the current table. */
+    private void migrateStep() {
+        if (oldTable == null) return;
+        int end = Math.min(oldTable.length, migrated + MIGRATION_STEP);
+        for (; migrated < end; migrated++) {
+            Collection<Integer> bucket = oldTable[migrated];
+            if (bucket instanceof TreeSet) treeified--;
+            for (Integer key : bucket) add(table, index(key, table.length), key);
+            bucket.clear();
+        }
+        if (migrated == oldTable.length) {
+            oldTable  = null;
+            migrated  = 0;
+        }
+    }
+
+    /** Completes an in‑flight incremental resize (no‑op otherwise). */
+    public void finishResize() {
+        while (oldTable != null) migrateStep();
+    }
 }
\ No newline at end of file
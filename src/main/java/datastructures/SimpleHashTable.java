@@ -1,5 +1,6 @@
 package datastructures;
 
+import java.io.PrintStream;
 import java.util.Random;
 
 public class SimpleHashTable implements HashTable {
@@ -12,6 +13,7 @@ public class SimpleHashTable implements HashTable {
     private int duplicateCount;  // Insert attempts ignored because key already present
 
     private int verbose = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
 
     public SimpleHashTable(int size) {
         this.capacity = size;
@@ -27,6 +29,11 @@ public class SimpleHashTable implements HashTable {
         this.verbose = level;
     }
 
+    @Override
+    public void setOutput(PrintStream out) {
+        this.out = out;
+    }
+
     @Override
     public int getCollisions() {
         return collisionCount;
@@ -45,19 +52,19 @@ public class SimpleHashTable implements HashTable {
             if (table[tryIndex] == null) {
                 table[tryIndex] = key;
                 if( verbose > 0 ) {
-                    System.out.println(String.format("Insertion[%3d] = %4d", tryIndex, key ));
+                    out.println(String.format("Insertion[%3d] = %4d", tryIndex, key ));
                 }
                 return true;
             } else if (table[tryIndex].equals(key)) {   // duplicate key
                 duplicateCount++;
                 if (verbose > 0) {
-                    System.out.println(String.format("Duplicate [%3d] : %4d", tryIndex, key));
+                    out.println(String.format("Duplicate [%3d] : %4d", tryIndex, key));
                 }
                 return false;                           // do not insert
             } else {
                 // collision with different key
                 if( verbose > 0 ) {
-                    System.out.println(String.format("Collision[%3d] : %4d : attempt = %4d", tryIndex, key, i));
+                    out.println(String.format("Collision[%3d] : %4d : attempt = %4d", tryIndex, key, i));
                 }
                 collisionCount++;
             }
@@ -96,18 +103,18 @@ public class SimpleHashTable implements HashTable {
     }
 
     public void print() {
-        System.out.println("Current state of the hash table:");
+        out.println("Current state of the hash table:");
         for (int i = 0; i < capacity; i++) {
             if (table[i] == null) {
-                System.out.println("Slot " + i + ": empty");
+                out.println("Slot " + i + ": empty");
             } else {
-                System.out.println("Slot " + i + ": " + table[i]);
+                out.println("Slot " + i + ": " + table[i]);
             }
         }
 
-        System.out.println(String.format("\nTotal collisions :  %4d ", collisionCount ));
-        System.out.println(String.format("Total insertions :  %4d ", insertionCount ));
-        System.out.println(String.format("Collision rate   :   %6.2f",  (double) collisionCount/(double) insertionCount * 100.00));
+        out.println(String.format("\nTotal collisions :  %4d ", collisionCount ));
+        out.println(String.format("Total insertions :  %4d ", insertionCount ));
+        out.println(String.format("Collision rate   :   %6.2f",  (double) collisionCount/(double) insertionCount * 100.00));
 
     }
 
@@ -0,0 +1,17 @@
+package datastructures;
+
+/**
+ * Read‑only slot access for open‑address tables, so the GUI can draw any of
+ * them as one row of slots without knowing how the keys are stored.
+ */
+public interface SlotView {
+
+    /** Current number of slots m. */
+    int capacity();
+
+    /** Key stored in slot {@code i}, or null if the slot is free. */
+    Integer slotKey(int i);
+
+    /** True if slot {@code i} holds a deletion marker. */
+    default boolean isTombstone(int i) { return false; }
+}
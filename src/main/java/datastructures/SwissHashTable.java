@@ -0,0 +1,302 @@
+package datastructures;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Swiss‑table layout: open addressing over groups of 16 slots, with one
+ * control byte per slot kept apart from the keys.
+ *
+ * A control byte is either EMPTY, DELETED or the low 7 bits of a secondary
+ * hash of the key ("fingerprint").  A probe loads a whole group of control
+ * bytes into one 128‑bit vector and compares all 16 fingerprints at once; only
+ * slots whose fingerprint matches are compared against the key array, and a
+ * group containing an EMPTY byte ends the search.  Groups are visited in
+ * triangular order over a power‑of‑two group count, so every group is reached.
+ *
+ * The group index comes from the selected {@link HashFunctions} method; the
+ * fingerprint comes from an independent bit mixer so the two never correlate.
+ * With {@link #setReseeding reseeding} on, the group hash sees the key through
+ * a {@link SeededHash}, and an insert that skips more than {@link #probeLimit()}
+ * groups rebuilds the table under a fresh seed, as {@link ProbingHashTable} does.
+ * Needs {@code --add-modules jdk.incubator.vector} at compile and run time.
+ */
+public class SwissHashTable implements HashTable, SlotView {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+    /** Slots per group (one vector of control bytes). */
+    public static final int GROUP = 16;
+
+    private static final byte EMPTY   = (byte) 0x80;   // -128
+    private static final byte DELETED = (byte) 0xFE;   //   -2; FULL bytes are 0..127
+
+    /** grow when (#live + #deleted) / m > 7/8 */
+    public static final double LOAD_FACTOR_THRESHOLD = 0.875;
+    /** Groups an insert may skip per bit of the group count before a reseed. */
+    public static final int RESEED_GROUP_FACTOR = 2;
+    /** Reseeds allowed before the table next grows. */
+    public static final int MAX_RESEEDS = 4;
+
+    private byte[] ctrl;
+    private int[]  keys;
+    private int    groups;                      // power of two
+    private final HashFunction baseHash;        // selected hash
+    private HashFunction h1;                    // group hash: baseHash, or a SeededHash over it
+    private int h1Kind;                         // kindOf(h1)
+    private SplittableRandom seeds;             // non‑null while reseeding is on
+
+    private int live       = 0;
+    private int tombstones = 0;
+
+    private int collisions  = 0;               // extra groups probed by inserts
+    private int insertions  = 0;
+    private int deletions   = 0;
+    private int duplicates  = 0;
+    private int resizes     = 0;
+    private int reseeds     = 0;
+    private int reseedsAtSize = 0;              // reseeds since the last growth
+
+    private int verbose     = 0;
+    private PrintStream out = System.out;  // verbose messages and print()
+
+    /** @param hashCode hash function letter, see {@link HashFunctionRegistry#forCode} */
+    public SwissHashTable(int size, char hashCode) {
+        this(size, HashFunctionRegistry.forCode(hashCode));
+    }
+
+    public SwissHashTable(int size, HashFunction hash) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        this.baseHash = hash;
+        this.h1 = hash;
+        this.h1Kind = HashFunctionRegistry.kindOf(hash);
+        int g = 1;
+        while ((long) g * GROUP < size) g <<= 1;
+        allocate(g);
+    }
+
+    public SwissHashTable(int size) {
+        this(size, 'd');
+    }
+
+    private void allocate(int g) {
+        groups = g;
+        ctrl   = new byte[g * GROUP];
+        keys   = new int[g * GROUP];
+        Arrays.fill(ctrl, EMPTY);
+        live = tombstones = 0;
+    }
+
+    // ---------- primitive API ------------------------------------------
+
+    /** Inserts {@code key}; returns false for a duplicate. Allocation‑free unless it grows. */
+    public boolean insert(int key) {
+        if (findSlot(key) >= 0) {
+            duplicates++;
+            return false;
+        }
+        if (live + tombstones + 1 > LOAD_FACTOR_THRESHOLD * ctrl.length) {
+            // mostly tombstones → rebuild at the same size, else double
+            rehash(live + 1 > ctrl.length / 2 ? groups * 2 : groups);
+        }
+        int skipped = placeNew(key);
+        collisions += skipped;
+        insertions++;
+        if (verbose > 0)
+            out.printf("Insert %-5d%n", key);
+        if (seeds != null && skipped > probeLimit() && reseedsAtSize < MAX_RESEEDS)
+            reseed(skipped);
+        return true;
+    }
+
+    /** True if {@code key} is present. */
+    public boolean contains(int key) {
+        return findSlot(key) >= 0;
+    }
+
+    /** Removes {@code key}; returns false if it was absent. */
+    public boolean delete(int key) {
+        int slot = findSlot(key);
+        if (slot < 0) return false;
+        int base = slot & ~(GROUP - 1);
+        // a group that still has an EMPTY never made a probe move on, so EMPTY is safe here
+        if (emptyMask(base) != 0) {
+            ctrl[slot] = EMPTY;
+        } else {
+            ctrl[slot] = DELETED;
+            tombstones++;
+        }
+        live--;
+        deletions++;
+        if (verbose > 0)
+            out.printf("Delete %-5d : OK%n", key);
+        return true;
+    }
+
+    // ---------- HashTable API ------------------------------------------
+
+    @Override public boolean insert(Integer key) { return insert(key.intValue()); }
+    @Override public boolean delete(Integer key) { return delete(key.intValue()); }
+    @Override public Integer find(Integer key)   { return contains(key.intValue()) ? key : null; }
+
+    @Override public int size() { return insertions - deletions; }
+
+    @Override public double averageProbes() {
+        return insertions == 0 ? 0.0 : 1.0 + (double) collisions / insertions;
+    }
+
+    @Override public int capacity() { return ctrl.length; }
+
+    @Override public Integer slotKey(int i)     { return ctrl[i] >= 0 ? keys[i] : null; }
+    @Override public boolean isTombstone(int i) { return ctrl[i] == DELETED; }
+
+    /** How many times the table was rebuilt (grown or purged of tombstones). */
+    public int getResizes() { return resizes; }
+
+    /**
+     * Turns seeded group hashing on or off and rebuilds the table under the
+     * new hash.  While on, an insert that skips more than {@link #probeLimit()}
+     * groups redraws the seed and rebuilds, at most {@link #MAX_RESEEDS} times
+     * before the table next grows.
+     */
+    public void setReseeding(boolean on) {
+        if (on == isReseeding()) return;
+        seeds  = on ? new SplittableRandom() : null;
+        h1     = on ? new SeededHash(baseHash, seeds.nextLong()) : baseHash;
+        h1Kind = HashFunctionRegistry.kindOf(h1);
+        reseedsAtSize = 0;
+        rebuild(groups);
+    }
+
+    public boolean isReseeding() { return seeds != null; }
+
+    /** How many times a long group probe forced a new seed. */
+    public int getReseeds() { return reseeds; }
+
+    /** Groups an insert may skip before a reseed: a multiple of log₂ of the group count. */
+    public int probeLimit() {
+        return RESEED_GROUP_FACTOR * (32 - Integer.numberOfLeadingZeros(groups));
+    }
+
+    // ---------- group probing -------------------------------------------
+
+    /** 7‑bit fingerprint from a mixer independent of every HashFunctions method. */
+    private static byte fingerprint(int key) {
+        int h = key;
+        h ^= h >>> 16; h *= 0x85EBCA6B;
+        h ^= h >>> 13; h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return (byte) (h >>> 25);
+    }
+
+    private int homeGroup(int key) {
+        return Math.floorMod(HashFunctionRegistry.hash(h1Kind, h1, key, groups), groups);
+    }
+
+    /** Bit i set ⇔ control byte {@code base + i} equals {@code b}. */
+    private long matchMask(int base, byte b) {
+        return ByteVector.fromArray(SPECIES, ctrl, base)
+                .compare(VectorOperators.EQ, b)
+                .toLong();
+    }
+
+    private long emptyMask(int base) {
+        return matchMask(base, EMPTY);
+    }
+
+    /** Bit i set ⇔ slot {@code base + i} is EMPTY or DELETED (control byte < 0). */
+    private long freeMask(int base) {
+        return ByteVector.fromArray(SPECIES, ctrl, base)
+                .compare(VectorOperators.LT, (byte) 0)
+                .toLong();
+    }
+
+    private int findSlot(int key) {
+        byte fp   = fingerprint(key);
+        int  mask = groups - 1;
+        int  g    = homeGroup(key);
+        for (int i = 0; i < groups; i++) {
+            int base = g * GROUP;
+            for (long m = matchMask(base, fp); m != 0; m &= m - 1) {
+                int slot = base + Long.numberOfTrailingZeros(m);
+                if (keys[slot] == key) return slot;
+            }
+            if (emptyMask(base) != 0) return -1;
+            g = (g + i + 1) & mask;             // triangular: +1, +2, +3, …
+        }
+        return -1;
+    }
+
+    /** Puts an absent key in the first free slot of its probe sequence; returns groups skipped. */
+    private int placeNew(int key) {
+        int mask = groups - 1;
+        int g    = homeGroup(key);
+        for (int i = 0; ; i++) {
+            int  base = g * GROUP;
+            long free = freeMask(base);
+            if (free != 0) {
+                int slot = base + Long.numberOfTrailingZeros(free);
+                if (ctrl[slot] == DELETED) tombstones--;
+                ctrl[slot] = fingerprint(key);
+                keys[slot] = key;
+                live++;
+                return i;
+            }
+            g = (g + i + 1) & mask;
+        }
+    }
+
+    private void rehash(int newGroups) {
+        if (newGroups > groups) reseedsAtSize = 0;
+        rebuild(newGroups);
+        resizes++;
+        if (verbose > 0)
+            out.printf("Resize -> %d groups x %d slots%n", groups, GROUP);
+    }
+
+    /** Places every live key into {@code newGroups} fresh groups under the current hash. */
+    private void rebuild(int newGroups) {
+        byte[] oldCtrl = ctrl;
+        int[]  oldKeys = keys;
+        allocate(newGroups);
+        for (int i = 0; i < oldCtrl.length; i++) {
+            if (oldCtrl[i] >= 0) placeNew(oldKeys[i]);
+        }
+    }
+
+    private void reseed(int skipped) {
+        h1     = new SeededHash(baseHash, seeds.nextLong());
+        h1Kind = HashFunctionRegistry.kindOf(h1);
+        rebuild(groups);
+        reseeds++;
+        reseedsAtSize++;
+        if (verbose > 0)
+            out.printf("Reseed -> %d groups skipped by one insert; new hash seed%n", skipped);
+    }
+
+    @Override public void print() {
+        out.println("\n--- SwissHashTable ---");
+        for (int i = 0; i < ctrl.length; i++) {
+            out.printf("%3d: %s%n", i,
+                    ctrl[i] >= 0 ? Integer.toString(keys[i]) : (ctrl[i] == DELETED ? "⊘" : "·"));
+        }
+        out.printf("insertions  : %d%n", insertions);
+        out.printf("collisions  : %d%n", collisions);
+        out.printf("collision%%  : %.2f%n",
+                insertions == 0 ? 0.0 : 100.0 * collisions / insertions);
+        out.printf("capacity    : %d (%d groups, %d resizes)%n", ctrl.length, groups, resizes);
+        if (reseeds > 0)
+            out.printf("reseeds     : %d%n", reseeds);
+    }
+
+    @Override public void setVerbose(int level) { this.verbose = level; }
+    @Override public void setOutput(PrintStream out) { this.out = out; }
+    @Override public int  getCollisions() { return collisions; }
+    @Override public int  getInsertions() { return insertions; }
+    @Override public int  getDuplicates() { return duplicates; }
+}
@@ -0,0 +1,45 @@
+package datastructures;
+
+import java.util.SplittableRandom;
+
+/**
+ * Simple tabulation hashing: the key is split into four bytes, each byte
+ * indexes its own table of random ints, and the four entries are XORed.
+ *
+ * The tables (4 × 256 ints, 4 KB) are filled once from the seed and never
+ * written again, so one instance can be shared by any number of tables and
+ * threads, memory does not grow with the keys seen, and the same seed always
+ * gives the same buckets.  The mixed value is 3‑independent, so its high bits
+ * are as good as its low ones and {@link HashFunctions#fastRange} can reduce
+ * it onto m without a division.
+ */
+public final class TabulationHash implements HashFunction {
+
+    private final int[] t0 = new int[256];
+    private final int[] t1 = new int[256];
+    private final int[] t2 = new int[256];
+    private final int[] t3 = new int[256];
+    private final long seed;
+
+    public TabulationHash(long seed) {
+        this.seed = seed;
+        SplittableRandom rng = new SplittableRandom(seed);
+        for (int i = 0; i < 256; i++) {
+            t0[i] = rng.nextInt();
+            t1[i] = rng.nextInt();
+            t2[i] = rng.nextInt();
+            t3[i] = rng.nextInt();
+        }
+    }
+
+    /** Full 32‑bit tabulation hash of {@code key}. */
+    public int mix(int key) {
+        return t0[key & 0xFF] ^ t1[(key >>> 8) & 0xFF] ^ t2[(key >>> 16) & 0xFF] ^ t3[key >>> 24];
+    }
+
+    @Override public int hash(int key, int m) {
+        return HashFunctions.fastRange(mix(key), m);
+    }
+
+    public long seed() { return seed; }
+}
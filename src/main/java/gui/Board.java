@@ -1,8 +1,8 @@
 package gui;
 
+import datastructures.BucketView;
 import datastructures.HashTable;
-import datastructures.ProbingHashTable;
-import datastructures.SeparateChainingHashTable;
+import datastructures.SlotView;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,12 +10,12 @@ import java.awt.*;
 /**
  * Visualizes a hash table.
  *
- * • Open-address tables (ProbingHashTable) appear as one horizontal row of slots.
+ * • Open-address tables (any SlotView) appear as one horizontal row of slots.
  *   – blue  = occupied
  *   – gray  = tombstone
  *   – white = empty
  *
- * • Separate-chaining tables appear as vertical bucket stacks, one column per bucket.
+ * • Chaining tables (any BucketView) appear as vertical bucket stacks, one column per bucket.
  *
  * Call setModel(table) whenever you rebuild / mutate the table, then repaint().
  */
@@ -44,17 +44,17 @@ public class Board extends JPanel {
         super.paintComponent(g);
         if (model == null) return;
 
-        if (model instanceof SeparateChainingHashTable sch)
-            drawChaining(g, sch);
-        else if (model instanceof ProbingHashTable ph)
-            drawProbing(g, ph);
+        if (model instanceof BucketView bv)
+            drawChaining(g, bv);
+        else if (model instanceof SlotView sv)
+            drawProbing(g, sv);
     }
 
     /* ---------- drawing helpers --------------------------------------- */
 
     /** Horizontal row for open-address probing tables. */
-    private void drawProbing(Graphics g, ProbingHashTable ht) {
-        int m      = ht.table.length;
+    private void drawProbing(Graphics g, SlotView ht) {
+        int m      = ht.capacity();
         int usable = getWidth() - 20;
         int slotW  = Math.max(4, usable / m);      // keep visible when m huge
         int h      = getHeight() - 40;
@@ -65,19 +65,20 @@ public class Board extends JPanel {
             g.setColor(Color.LIGHT_GRAY);
             g.drawRect(x, y0, slotW, h);
 
-            if (ht.table[i] != null) {
+            Integer key = ht.slotKey(i);
+            if (key != null) {
                 g.setColor(new Color(100, 170, 255));          // occupied
                 g.fillRect(x + 1, y0 + 1, slotW - 1, h - 1);
-            } else if (ht.tombstone[i]) {
+            } else if (ht.isTombstone(i)) {
                 g.setColor(Color.GRAY);                        // tombstone
                 g.fillRect(x + 1, y0 + 1, slotW - 1, h - 1);
             }
 
             // draw the key label if table is small
-            if (m <= MAX_LABEL_M && ht.table[i] != null) {
+            if (m <= MAX_LABEL_M && key != null) {
                 g.setColor(Color.BLACK);
                 g.setFont(new Font("TimesRoman", Font.PLAIN, 8));
-                String txt = ht.table[i].toString();
+                String txt = key.toString();
                 int txtWidth = g.getFontMetrics().stringWidth(txt);
                 /* right‑justify inside the slot (2‑px right padding) */
                 int tx = x + slotW - txtWidth - 2;
@@ -88,8 +89,8 @@ public class Board extends JPanel {
     }
 
     /** Bucket columns for separate-chaining tables. */
-    private void drawChaining(Graphics g, SeparateChainingHashTable ht) {
-        int m        = ht.table.length;
+    private void drawChaining(Graphics g, BucketView ht) {
+        int m        = ht.capacity();
         int usable   = getWidth() - 20;
         int bucketW  = Math.max(8, usable / m);
         int x        = 10;
@@ -98,7 +99,7 @@ public class Board extends JPanel {
             g.setColor(Color.DARK_GRAY);
             g.drawRect(x, 10, bucketW, getHeight() - 20);
 
-            var it = ht.table[i].iterator();
+            var it = ht.bucket(i).iterator();
             int y  = 14;
             while (it.hasNext() && y < getHeight() - 14) {
                 Integer key = it.next();
@@ -17,7 +17,7 @@ public class HashGUI extends JFrame {
     /* ------------------------------------------------------------------ */
 
     private final JComboBox<String> styleBox = new JComboBox<>(new String[]{
-            "Separate Chaining", "Linear", "Quadratic", "Double Hash"});
+            "Separate Chaining", "Packed Chaining", "Linear", "Quadratic", "Double Hash", "Robin Hood", "Hopscotch", "Cuckoo", "Swiss Table"});
 
     private final JComboBox<String> hashBox = new JComboBox<>(
             new String[]{
@@ -141,9 +141,14 @@ public class HashGUI extends JFrame {
         /* ---------- build table --------------------------------------- */
         table = switch (style) {
             case "separate chaining" -> new SeparateChainingHashTable(m, hf);
+            case "packed chaining"   -> new PackedChainingHashTable(m, hf);
             case "linear"            -> new LinearProbingHashTable(m, hf);
             case "quadratic"         -> new QuadraticProbingHashTable(m, hf);
             case "double hash"       -> new DoubleHashingHashTable(m, hf);
+            case "robin hood"        -> new RobinHoodHashTable(m, hf);
+            case "hopscotch"         -> new HopscotchHashTable(m, hf);
+            case "cuckoo"            -> new CuckooHashTable(m, hf);
+            case "swiss table"       -> new SwissHashTable(m, hf);
             default -> throw new IllegalStateException("Unknown style");
         };
 
@@ -156,32 +161,12 @@ public class HashGUI extends JFrame {
                 java.util.Arrays.toString(java.util.Arrays.copyOf(keys, Math.min(keys.length, 25))) +
                 System.lineSeparator());
 
-        /* ---------- robust insert loop (handles probing saturation) --- */
-        int inserted = 0;
-        try {
-            for (; inserted < nInsert; inserted++)
-                table.insert(keys[inserted]);
-        } catch (IllegalStateException full) {
-            // Friendly pop‑up for immediate attention
-            JOptionPane.showMessageDialog(this,
-                    "Hash table became full after " + table.size() +
-                            " successful inserts.",
-                    "Table Full", JOptionPane.WARNING_MESSAGE);
-
-            // Summarise in the sidebar so the run is recorded
-            summaryField.setText(String.format(
-                    "TABLE FULL after %d inserts (m=%d, load=%.3f)",
-                    table.size(), m, (double) table.size() / m));
-
-            // Skip the remaining stats and drawing; leave board as‑is
-            board.setModel(table);
-            return;
-        }
+        /* ---------- inserts (probing tables grow on demand) ----------- */
+        table.insertAll(keys, nInsert);
 
-        /* ---------- delete loop -------------------------------------- */
+        /* ---------- deletes ------------------------------------------ */
         nDelete = Math.min(nDelete, table.size());
-        for (int i = 0; i < nDelete; i++)
-            table.delete(keys[i]);
+        table.deleteAll(keys, nDelete);
 
         /* ---------- check if any TODO stub was hit -------------------- */
         String todo = NotImplemented.Status.get();
@@ -193,6 +178,8 @@ public class HashGUI extends JFrame {
         }
 
         /* ---------- stats -------------------------------------------- */
+        if (table instanceof SlotView sv)   m = sv.capacity();        // may have grown
+        if (table instanceof BucketView bv) m = bv.capacity();
         double load = (double) table.size() / m;
         double rate = table.getInsertions() == 0
                       ? 0.0
@@ -204,17 +191,19 @@ public class HashGUI extends JFrame {
         stats.append(String.format(Locale.ROOT,
                 "m=%d  size=%d  load=%.3f  avg probes=%.3f%n",
                 m, table.size(), load, table.averageProbes()));
+        if (table instanceof ProbingHashTable pht)
+            stats.append(String.format("tombstones=%d  cleanups=%d%n", pht.getTombstones(), pht.getCleanups()));
 
         stats.append("\nFirst 15 buckets:\n");
         int view = Math.min(15, m);
-        if (table instanceof SeparateChainingHashTable sch) {
+        if (table instanceof BucketView bv) {
             for (int i = 0; i < view; i++)
                 stats.append(String.format("Slot %2d: %s%n", i,
-                        sch.table[i].isEmpty() ? "empty" : sch.table[i]));
-        } else if (table instanceof ProbingHashTable ph) {
+                        bv.bucket(i).isEmpty() ? "empty" : bv.bucket(i)));
+        } else if (table instanceof SlotView sv) {
             for (int i = 0; i < view; i++)
                 stats.append(String.format("Slot %2d: %s%n", i,
-                        ph.table[i] == null ? (ph.tombstone[i] ? "⊘" : "empty") : ph.table[i]));
+                        sv.slotKey(i) == null ? (sv.isTombstone(i) ? "⊘" : "empty") : sv.slotKey(i)));
         }
 
         board.setModel(table);
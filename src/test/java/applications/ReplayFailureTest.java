@@ -0,0 +1,80 @@
+package applications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A corrupt op‑log stops the replay with an IOException, but the handler is
+ * still ended, so a batching handler applies the ops of the earlier, valid
+ * blocks – serially and pipelined alike.
+ */
+class ReplayFailureTest {
+
+    private static final int OPS = OpLog.BLOCK_OPS + 4465;     // one full block and a short one
+
+    /** Holds inserts back until {@code end()}, like Driver's batching handler. */
+    private static final class Buffering implements CommandReader.Handler {
+        int pending, applied, ends;
+
+        @Override public void insert(int key) { pending++; }
+        @Override public void delete(int key) { }
+        @Override public void search(int key) { }
+        @Override public void print()         { }
+        @Override public void invalid(String message) { }
+
+        @Override public void end() {
+            applied += pending;
+            pending = 0;
+            ends++;
+        }
+    }
+
+    /** An int32 op‑log of {@link #OPS} inserts whose last block fails its checksum. */
+    private static Path corruptLog() throws IOException {
+        Path text = Files.createTempFile("replay", ".txt");
+        Path log  = Files.createTempFile("replay", ".hlog");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < OPS; i++) sb.append("insert ").append(i).append('\n');
+        Files.writeString(text, sb);
+        try (OpLog.Encoder encoder = new OpLog.Encoder(log, OpLog.KeyEncoding.INT32)) {
+            CommandReader.read(text, encoder);
+        }
+        try (RandomAccessFile f = new RandomAccessFile(log.toFile(), "rw")) {
+            f.seek(f.length() - 1);
+            int b = f.read();
+            f.seek(f.length() - 1);
+            f.write(b ^ 0xFF);                                   // inside the last block's payload
+        }
+        Files.delete(text);
+        return log;
+    }
+
+    @Test void serialReplayEndsHandlerOnCorruptBlock() throws IOException {
+        Path log = corruptLog();
+        Buffering handler = new Buffering();
+        IOException e = assertThrows(IOException.class, () -> Driver.replay(log, handler));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+        assertEquals(1, handler.ends);
+        assertEquals(OpLog.BLOCK_OPS, handler.applied);
+        Files.delete(log);
+    }
+
+    @Test void pipelinedReplayEndsHandlerOnCorruptBlock() throws IOException {
+        Path log = corruptLog();
+        Buffering handler = new Buffering();
+        IOException e = assertThrows(IOException.class,
+                () -> PipelinedReplay.run(log, handler, OpRing.DEFAULT_BATCH, OpRing.DEFAULT_SLOTS));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+        assertEquals(1, handler.ends);
+        assertEquals(OpLog.BLOCK_OPS, handler.applied);
+        Files.delete(log);
+    }
+}
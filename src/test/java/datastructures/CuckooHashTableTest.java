@@ -0,0 +1,116 @@
+package datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CuckooHashTable}: the stash, rebuilds and the fallback mix.
+ *
+ * A constant hash sends every choice of every key to one bucket, so once
+ * its b slots are taken each new key (or the resident it evicts) has to go
+ * to the stash, and the insert after a full stash forces a rebuild that only
+ * the full‑range mix can finish.  Folding stays below ~3000 whatever the
+ * bucket count, so a large key set drives the table to the mix as well; the
+ * mixed rebuild must be sized from the key count, not from the failed growths.
+ * The randomized runs compare every (d, b) shape against {@link HashSet}.
+ */
+class CuckooHashTableTest {
+
+    /** Keys sitting in a bucket slot; the rest of {@code size()} is in the stash. */
+    static int slottedKeys(CuckooHashTable t) {
+        int n = 0;
+        for (int i = 0; i < t.capacity(); i++) if (t.slotKey(i) != null) n++;
+        return n;
+    }
+
+    @Test void fullBucketSpillsToStashThenFullStashRebuildsWithMix() {
+        CuckooHashTable t = new CuckooHashTable(64, (key, m) -> 0, 2, 4, 1);
+        for (int key = 1; key <= 4; key++) assertTrue(t.insert(key));
+        assertEquals(0, t.stashSize());
+        assertEquals(4, slottedKeys(t));
+
+        for (int key = 5; key <= 4 + CuckooHashTable.STASH_SIZE; key++) {
+            assertTrue(t.insert(key));
+            assertEquals(key - 4, t.stashSize(), "key " + key);
+        }
+        assertEquals(0, t.getRehashes());
+        assertFalse(t.usesFallbackMix());
+        for (int key = 1; key <= 8; key++) assertNotNull(t.find(key), "lost key " + key);
+
+        // a stashed key is found and deleted like any other
+        int stashed = 1;
+        while (isSlotted(t, stashed)) stashed++;
+        assertTrue(t.delete(stashed));
+        assertEquals(CuckooHashTable.STASH_SIZE - 1, t.stashSize());
+        assertNull(t.find(stashed));
+        assertTrue(t.insert(stashed));
+        assertEquals(CuckooHashTable.STASH_SIZE, t.stashSize());
+        assertFalse(t.insert(stashed), "duplicate of a stashed key");
+
+        assertTrue(t.insert(9));                    // stash full: rebuild
+        assertTrue(t.getRehashes() > 0);
+        assertTrue(t.usesFallbackMix());
+        assertTrue(t.capacity() < 64, "mixed rebuild sized from the failed growths: " + t.capacity());
+        assertEquals(9, t.size());
+        assertEquals(9, slottedKeys(t) + t.stashSize());
+        for (int key = 1; key <= 9; key++) assertNotNull(t.find(key), "lost key " + key);
+    }
+
+    private static boolean isSlotted(CuckooHashTable t, int key) {
+        for (int i = 0; i < t.capacity(); i++) if (Integer.valueOf(key).equals(t.slotKey(i))) return true;
+        return false;
+    }
+
+    @Test void foldingFallsBackToMixNearMaxLoad() {
+        for (int b : new int[]{1, 4}) {
+            CuckooHashTable t = new CuckooHashTable(64, 'o', 2, b, 7);
+            double switchLoad = -1;
+            for (int i = 0; i < 30_000; i++) {
+                boolean before = t.usesFallbackMix();
+                assertTrue(t.insert(i * 7919));
+                if (!before && t.usesFallbackMix()) switchLoad = (double) t.size() / t.capacity();
+            }
+            assertTrue(switchLoad > 0, "b=" + b + ": folding never gave up");
+            // three failed growths would leave it near maxLoad / 8
+            assertTrue(switchLoad > t.maxLoad() / 2, "b=" + b + ": load " + switchLoad + " after the switch");
+            assertEquals(30_000, t.size());
+            for (int i = 0; i < 30_000; i++) assertNotNull(t.find(i * 7919), "b=" + b + ": lost " + i * 7919);
+        }
+    }
+
+    @Test void randomRunMatchesHashSet() {
+        int[][] shapes = {{2, 1}, {2, 4}, {3, 1}};
+        for (int[] shape : shapes) {
+            for (char hash : new char[]{'i', 'm', 'o'}) {
+                CuckooHashTable  t   = new CuckooHashTable(16, hash, shape[0], shape[1], 99);
+                Set<Integer>     ref = new HashSet<>();
+                SplittableRandom rnd = new SplittableRandom(shape[0] * 31L + shape[1] + hash);
+                for (int op = 0; op < 40_000; op++) {
+                    int key = rnd.nextInt(-5_000, 5_000);
+                    int pick = rnd.nextInt(100);
+                    String at = shape[0] + "x" + shape[1] + "/" + hash + " op " + op + " key " + key;
+                    if (pick < 50) {
+                        assertEquals(ref.add(key), t.insert(key), at);
+                    } else if (pick < 85) {
+                        assertEquals(ref.remove(key), t.delete(key), at);
+                    } else {
+                        assertEquals(ref.contains(key), t.find(key) != null, at);
+                    }
+                    assertEquals(ref.size(), t.size(), at);
+                    if (op % 256 == 0) assertEquals(t.size(), slottedKeys(t) + t.stashSize(), at);
+                }
+                for (int key : ref) assertNotNull(t.find(key), "lost key " + key);
+                assertTrue(t.size() <= t.maxLoad() * t.capacity() + CuckooHashTable.STASH_SIZE);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The fixed‑point multiplicative hashes against the double formulas they
+ * replaced.
+ *
+ * Exact agreement is claimed, and checked exhaustively, for every m in
+ * 1..4096 and every key in −20000..20000.  Outside that range the double
+ * formula keeps only ~22 fraction bits of kA, so it drifts; there the new
+ * code is checked against a BigDecimal reference instead, and one known
+ * disagreement with the old formula is pinned down below.  midsquare only
+ * swapped {@code mid % m} for a conditional subtract, so it must agree
+ * everywhere.
+ */
+class HashFunctionsTest {
+
+    private static final int MAX_M   = 4096;
+    private static final int MAX_KEY = 20000;
+
+    /* a full-range pair where the old double result is 23 buckets off */
+    private static final int DRIFT_KEY = 246745853;
+    private static final int DRIFT_M   = 1525588303;
+
+    /* ---------- the formulas before fixed point ------------------------ */
+
+    static int oldMultiplication(int k, int size) {
+        final double A = (Math.sqrt(5) - 1) / 2;
+        double product = k * A;
+        double frac = product - Math.floor(product);
+        return (int) (size * frac);
+    }
+
+    static int oldFibonacci(int k, int size) {
+        final double phi = (1 + Math.sqrt(5)) / 2;
+        return (int) Math.floor(size * ((k * (phi - 1)) % 1));
+    }
+
+    static int oldMidsquare(int k, int size) {
+        long square = (long) k * (long) k;
+        int neededBits = 32 - Integer.numberOfLeadingZeros(size - 1);
+        int shift = (Long.SIZE - neededBits) / 2;
+        long mask = (1L << neededBits) - 1;
+        int mid = (int) ((square >>> shift) & mask);
+        return mid % size;
+    }
+
+    /* ---------- exact reference ---------------------------------------- */
+
+    private static final MathContext MC = new MathContext(60);
+    private static final BigDecimal A =
+            BigDecimal.valueOf(5).sqrt(MC).subtract(BigDecimal.ONE).divide(BigDecimal.valueOf(2), MC);
+
+    /** ⌊m · frac⌋ where frac = kA − round(kA) with the given rounding (FLOOR: mod 1, DOWN: % 1). */
+    static int reference(int k, int m, RoundingMode whole) {
+        BigDecimal p = A.multiply(BigDecimal.valueOf(k), MC);
+        BigDecimal frac = p.subtract(p.setScale(0, whole));
+        return frac.multiply(BigDecimal.valueOf(m), MC).setScale(0, RoundingMode.FLOOR).intValueExact();
+    }
+
+    /* ---------- exhaustive range: identical to the old doubles --------- */
+
+    @Test void multiplicationMatchesDoubleFormulaOnSmallKeys() {
+        for (int m = 1; m <= MAX_M; m++)
+            for (int k = -MAX_KEY; k <= MAX_KEY; k++)
+                if (HashFunctions.multiplication(k, m) != oldMultiplication(k, m))     // no message string per pair
+                    fail("k=" + k + " m=" + m + ": " + HashFunctions.multiplication(k, m) + " vs " + oldMultiplication(k, m));
+    }
+
+    @Test void fibonacciMatchesDoubleFormulaOnSmallKeys() {
+        for (int m = 1; m <= MAX_M; m++)
+            for (int k = -MAX_KEY; k <= MAX_KEY; k++)
+                if (HashFunctions.fibonacci(k, m) != oldFibonacci(k, m))     // no message string per pair
+                    fail("k=" + k + " m=" + m + ": " + HashFunctions.fibonacci(k, m) + " vs " + oldFibonacci(k, m));
+    }
+
+    /* ---------- midsquare: identical everywhere ------------------------ */
+
+    @Test void midsquareMatchesModuloForm() {
+        SplittableRandom rnd = new SplittableRandom(16);
+        for (int m = 1; m <= MAX_M; m++) {
+            for (int k = -MAX_KEY; k <= MAX_KEY; k += 7)
+                assertEquals(oldMidsquare(k, m), HashFunctions.midsquare(k, m), "k=" + k + " m=" + m);
+            for (int i = 0; i < 200; i++) {
+                int k = rnd.nextInt();
+                assertEquals(oldMidsquare(k, m), HashFunctions.midsquare(k, m), "k=" + k + " m=" + m);
+            }
+        }
+        for (int k : new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 0, 1 })
+            for (int m : new int[] { 1, 2, 3, 1 << 20, Integer.MAX_VALUE })
+                assertEquals(oldMidsquare(k, m), HashFunctions.midsquare(k, m), "k=" + k + " m=" + m);
+    }
+
+    /* ---------- beyond it: exact, where the doubles are not ------------ */
+
+    @Test void fullRangeMatchesExactReference() {
+        SplittableRandom rnd = new SplittableRandom(96);
+        int[] edge = { Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MAX_VALUE, -1, 0, 1 };
+        for (int i = 0; i < 20_000 + edge.length; i++) {
+            int k = i < edge.length ? edge[i] : rnd.nextInt();
+            int m = i < edge.length ? Integer.MAX_VALUE : 1 + rnd.nextInt(Integer.MAX_VALUE);
+            assertEquals(reference(k, m, RoundingMode.FLOOR), HashFunctions.multiplication(k, m), "k=" + k + " m=" + m);
+            assertEquals(reference(k, m, RoundingMode.DOWN),  HashFunctions.fibonacci(k, m),      "k=" + k + " m=" + m);
+        }
+    }
+
+    /** Where they differ: the double formula rounds kA to 53 bits, losing low fraction bits of large keys. */
+    @Test void doubleFormulaDriftsOnLargeKeys() {
+        int k = DRIFT_KEY, m = DRIFT_M;
+        assertEquals(1124488571, reference(k, m, RoundingMode.FLOOR));
+        assertEquals(1124488571, HashFunctions.multiplication(k, m));
+        assertNotEquals(1124488571, oldMultiplication(k, m));
+    }
+}
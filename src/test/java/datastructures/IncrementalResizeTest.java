@@ -0,0 +1,191 @@
+package datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ResizeMode#INCREMENTAL} in {@link ProbingHashTable} and
+ * {@link SeparateChainingHashTable}: while a resize is in flight the old and
+ * new arrays coexist and every operation moves a few old slots over, so each
+ * operation has to look in both.  The pinned cases act on keys that are still
+ * in the old arrays (delete, duplicate insert, find); the randomized runs mix
+ * everything with tombstone purges and Robin Hood shifts and compare against
+ * {@link HashSet}, counting how many operations actually ran mid‑migration,
+ * and one pinned case purges the new table's tombstones while the old table
+ * still holds keys.
+ */
+class IncrementalResizeTest {
+
+    private static final ProbeType[] TYPES = {
+            ProbeType.LINEAR, ProbeType.QUADRATIC, ProbeType.DOUBLE_HASHING, ProbeType.ROBIN_HOOD};
+
+    @Test void probingActsOnKeysStillInTheOldTable() {
+        for (ProbeType type : TYPES) {
+            ProbingHashTable t = new ProbingHashTable(211, type, 'i');
+            t.setResizeMode(ResizeMode.INCREMENTAL);
+            Set<Integer> keys = new HashSet<>();
+            Integer[] old;                          // becomes the old table once an insert starts the move
+            int key = 0;
+            do {
+                old = t.table;
+                key += 7;
+                assertTrue(t.insert(key));
+                keys.add(key);
+            } while (!t.isResizing());
+
+            int slot = old.length - 1;              // old slots move front to back: this one moves last
+            while (old[slot] == null) slot--;
+            int stale = old[slot];
+            int size  = t.size();
+
+            assertFalse(t.insert(stale), type + ": duplicate of an unmoved key");
+            assertNotNull(t.find(stale), type.toString());
+            assertEquals(stale, old[slot], type + ": migration reached the key too early for this test");
+            assertEquals(size, t.size());
+
+            assertTrue(t.delete(stale), type.toString());
+            assertNull(old[slot], type.toString());
+            assertNull(t.find(stale), type.toString());
+            assertFalse(t.delete(stale), type.toString());
+            assertEquals(size - 1, t.size());
+            keys.remove(stale);
+
+            t.finishResize();
+            assertFalse(t.isResizing());
+            assertNull(t.find(stale), type + ": deleted key came back with the migration");
+            for (int k : keys) assertNotNull(t.find(k), type + ": lost " + k);
+        }
+    }
+
+    @Test void chainingActsOnKeysStillInTheOldTable() {
+        SeparateChainingHashTable t = new SeparateChainingHashTable(97, 'i');
+        t.setResizeMode(ResizeMode.INCREMENTAL);
+        Set<Integer> keys = new HashSet<>();
+        Collection<Integer>[] old;
+        int key = 0;
+        do {
+            old = t.table;
+            key += 7;
+            assertTrue(t.insert(key));
+            keys.add(key);
+        } while (!t.isResizing());
+
+        int bucket = old.length - 1;                // moved last
+        while (old[bucket].isEmpty()) bucket--;
+        int stale = old[bucket].iterator().next();
+        int size  = t.size();
+
+        assertFalse(t.insert(stale));
+        assertNotNull(t.find(stale));
+        assertTrue(old[bucket].contains(stale), "migration reached the key too early for this test");
+        assertEquals(size, t.size());
+
+        assertTrue(t.delete(stale));
+        assertFalse(old[bucket].contains(stale));
+        assertNull(t.find(stale));
+        assertEquals(size - 1, t.size());
+        keys.remove(stale);
+
+        t.finishResize();
+        assertNull(t.find(stale));
+        for (int k : keys) assertNotNull(t.find(k), "lost " + k);
+    }
+
+    @Test void probingRandomRunDuringMigrationMatchesHashSet() {
+        for (ProbeType type : TYPES) {
+            ProbingHashTable t = new ProbingHashTable(7, type, 'i');
+            t.setResizeMode(ResizeMode.INCREMENTAL);
+            t.setTombstoneThreshold(0.005);         // purge often, so some purges follow a migration
+            Set<Integer>     ref = new HashSet<>();
+            SplittableRandom rnd = new SplittableRandom(7 + type.ordinal());
+            int midMigration = 0;
+            for (int op = 0; op < 60_000; op++) {
+                int key = rnd.nextInt(0, 6_000);
+                int pick = rnd.nextInt(100);
+                if (t.isResizing()) midMigration++;
+                String at = type + " op " + op + " key " + key;
+                if (pick < 55) {
+                    assertEquals(ref.add(key), t.insert(key), at);
+                } else if (pick < 85) {
+                    assertEquals(ref.remove(key), t.delete(key), at);
+                } else {
+                    assertEquals(ref.contains(key), t.find(key) != null, at);
+                }
+                assertEquals(ref.size(), t.size(), at);
+            }
+            assertTrue(midMigration > 300, type + ": only " + midMigration + " ops ran mid-migration");
+            t.finishResize();
+            for (int key = 0; key < 6_000; key++)
+                assertEquals(ref.contains(key), t.find(key) != null, type + " key " + key);
+        }
+    }
+
+    @Test void purgeDuringMigrationKeepsBothTables() {
+        for (ProbeType type : new ProbeType[]{ProbeType.QUADRATIC, ProbeType.DOUBLE_HASHING}) {
+            ProbingHashTable t = new ProbingHashTable(211, type, 'i');
+            t.setResizeMode(ResizeMode.INCREMENTAL);
+            Set<Integer> keys = new HashSet<>();
+            int key = 0;
+            do {
+                key += 7;
+                assertTrue(t.insert(key));
+                keys.add(key);
+            } while (!t.isResizing());
+            t.setTombstoneThreshold(0.01);          // a handful of tombstones in the new table
+
+            // fresh keys land in the new table; deleting them leaves tombstones there
+            int fresh = 1_000_000, cleanups = t.getCleanups(), deleted = 0;
+            for (int i = 0; i < 8; i++) assertTrue(t.insert(fresh + i), type.toString());
+            while (deleted < 8 && t.getCleanups() == cleanups)
+                assertTrue(t.delete(fresh + deleted++), type.toString());
+            assertEquals(cleanups + 1, t.getCleanups(), type + ": no purge");
+            assertTrue(t.isResizing(), type + ": migration finished before the purge");
+            assertEquals(0, t.getTombstones());
+
+            for (int k : keys) assertNotNull(t.find(k), type + ": lost " + k + " mid-migration");
+            t.finishResize();
+            for (int k : keys) assertNotNull(t.find(k), type + ": lost " + k);
+            for (int i = 0; i < 8; i++)
+                assertEquals(i >= deleted, t.find(fresh + i) != null, type + ": fresh key " + i);
+            assertEquals(keys.size() + 8 - deleted, t.size());
+        }
+    }
+
+    @Test void chainingRandomRunDuringMigrationMatchesHashSet() {
+        for (char hash : new char[]{'i', 'o'}) {        // folding piles keys into tree buckets
+            SeparateChainingHashTable t = new SeparateChainingHashTable(5, hash);
+            t.setResizeMode(ResizeMode.INCREMENTAL);
+            Set<Integer>     ref = new HashSet<>();
+            SplittableRandom rnd = new SplittableRandom(hash);
+            int midMigration = 0;
+            for (int op = 0; op < 60_000; op++) {
+                int key = rnd.nextInt(0, 6_000);
+                int pick = rnd.nextInt(100);
+                if (t.isResizing()) midMigration++;
+                String at = hash + " op " + op + " key " + key;
+                if (pick < 55) {
+                    assertEquals(ref.add(key), t.insert(key), at);
+                } else if (pick < 85) {
+                    assertEquals(ref.remove(key), t.delete(key), at);
+                } else {
+                    assertEquals(ref.contains(key), t.find(key) != null, at);
+                }
+                assertEquals(ref.size(), t.size(), at);
+            }
+            assertTrue(midMigration > 100, hash + ": only " + midMigration + " ops ran mid-migration");
+            t.finishResize();
+            for (int key = 0; key < 6_000; key++)
+                assertEquals(ref.contains(key), t.find(key) != null, hash + " key " + key);
+        }
+    }
+}
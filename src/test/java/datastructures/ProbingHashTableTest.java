@@ -0,0 +1,167 @@
+package datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Deletes in {@link ProbingHashTable}, checked against {@link HashSet}.
+ *
+ * LINEAR deletes shift the rest of the cluster back instead of leaving a
+ * tombstone, so a LINEAR table must never hold one; the pinned case deletes
+ * from the middle of a cluster that wraps past slot m − 1, where the cyclic
+ * "home in (hole, j]" test is easiest to get wrong.  QUADRATIC and
+ * DOUBLE_HASHING leave tombstones, and {@link ProbingHashTable#getTombstones()}
+ * must match the flags actually set until an in‑place purge clears them all.
+ */
+class ProbingHashTableTest {
+
+    private static final ProbeType[] TYPES = {
+            ProbeType.LINEAR, ProbeType.QUADRATIC, ProbeType.DOUBLE_HASHING, ProbeType.ROBIN_HOOD};
+
+    /** Tombstone flags actually set in the current table. */
+    static int flaggedTombstones(ProbingHashTable t) {
+        int n = 0;
+        for (int i = 0; i < t.capacity(); i++) if (t.tombstone[i]) n++;
+        return n;
+    }
+
+    /** Every live slot holds a key of {@code expected}, and every expected key is found. */
+    static void assertSameKeys(Set<Integer> expected, ProbingHashTable t) {
+        assertEquals(expected.size(), t.size());
+        int live = 0;
+        for (int i = 0; i < t.capacity(); i++) {
+            Integer key = t.slotKey(i);
+            if (key == null) continue;
+            live++;
+            assertTrue(expected.contains(key), "stray key " + key + " in slot " + i);
+        }
+        assertEquals(expected.size(), live);
+        for (int key : expected) assertNotNull(t.find(key), "lost key " + key);
+    }
+
+    @Test void deleteHeavyRunMatchesHashSet() {
+        for (ProbeType type : TYPES) {
+            for (char hash : new char[]{'i', 'f', 'o'}) {
+                ProbingHashTable t   = new ProbingHashTable(7, type, hash);
+                Set<Integer>     ref = new HashSet<>();
+                SplittableRandom rnd = new SplittableRandom(type.ordinal() * 31L + hash);
+                for (int op = 0; op < 40_000; op++) {
+                    int key = rnd.nextInt(-2_000, 2_000);
+                    int pick = rnd.nextInt(100);
+                    String at = type + "/" + hash + " op " + op + " key " + key;
+                    if (pick < 40) {
+                        assertEquals(ref.add(key), t.insert(key), at);
+                    } else if (pick < 90) {
+                        assertEquals(ref.remove(key), t.delete(key), at);
+                    } else {
+                        assertEquals(ref.contains(key), t.find(key) != null, at);
+                    }
+                    if (type == ProbeType.LINEAR || type == ProbeType.ROBIN_HOOD)
+                        assertEquals(0, t.getTombstones(), at);
+                    if (op % 64 == 0) assertEquals(flaggedTombstones(t), t.getTombstones(), at);
+                    if (op % 1_000 == 0) assertSameKeys(ref, t);
+                }
+                assertSameKeys(ref, t);
+            }
+        }
+    }
+
+    @Test void linearDeleteInWrappedClusterShiftsBack() {
+        // division mod 11: homes 9, 9, 9, 10, 10, 0 fill slots 9, 10, 0, 1, 2, 3
+        ProbingHashTable t = new ProbingHashTable(11, ProbeType.LINEAR, 'i');
+        int[] keys = {9, 20, 31, 10, 21, 0};
+        for (int key : keys) assertTrue(t.insert(key));
+        assertEquals(9,  t.slotKey(9));
+        assertEquals(20, t.slotKey(10));
+        assertEquals(31, t.slotKey(0));
+        assertEquals(0,  t.slotKey(3));
+
+        assertTrue(t.delete(20));                   // the hole sits at m − 1
+
+        // everyone after the hole probed across it, so each moves back one slot
+        assertEquals(9,  t.slotKey(9));
+        assertEquals(31, t.slotKey(10));
+        assertEquals(10, t.slotKey(0));
+        assertEquals(21, t.slotKey(1));
+        assertEquals(0,  t.slotKey(2));
+        assertNull(t.slotKey(3));
+        assertEquals(0, t.getTombstones());
+        assertEquals(0, flaggedTombstones(t));
+        assertNull(t.find(20));
+        for (int key : new int[]{9, 31, 10, 21, 0}) assertNotNull(t.find(key), "lost key " + key);
+    }
+
+    @Test void linearDeleteSkipsKeysThatStayReachable() {
+        // 9 → slot 9, 10 → slot 10 (its home), 20 (home 9) wraps to slot 0
+        ProbingHashTable t = new ProbingHashTable(11, ProbeType.LINEAR, 'i');
+        for (int key : new int[]{9, 10, 20}) assertTrue(t.insert(key));
+        assertEquals(20, t.slotKey(0));
+
+        assertTrue(t.delete(9));
+
+        assertEquals(10, t.slotKey(10));            // home 10 lies in (hole, j]: stays
+        assertEquals(20, t.slotKey(9));             // probed across the hole: jumps back over 10
+        assertNull(t.slotKey(0));
+        assertEquals(0, t.getTombstones());
+        assertNotNull(t.find(10));
+        assertNotNull(t.find(20));
+
+        // across the wrap: 20 (home 9) leaves slot 10 open, 0 sits at its home slot 0 and stays
+        t = new ProbingHashTable(11, ProbeType.LINEAR, 'i');
+        for (int key : new int[]{9, 20, 0}) assertTrue(t.insert(key));
+        assertTrue(t.delete(9));
+        assertEquals(20, t.slotKey(9));
+        assertNull(t.slotKey(10));
+        assertEquals(0, t.slotKey(0));
+        assertNotNull(t.find(0));
+    }
+
+    @Test void tombstonesAreCountedThenPurgedInPlace() {
+        ProbingHashTable t = new ProbingHashTable(101, ProbeType.QUADRATIC, 'i');
+        t.setTombstoneThreshold(0.1);               // purge past 10 tombstones
+        Set<Integer> ref = new HashSet<>();
+        for (int i = 0; i < 60; i++) {
+            int key = i * 101 + (i % 5);            // five homes, long quadratic chains
+            assertTrue(t.insert(key));
+            ref.add(key);
+        }
+        int resizes = t.getResizes();
+
+        for (int i = 0; i < 10; i++) {
+            int key = i * 101 + (i % 5);
+            assertTrue(t.delete(key));
+            ref.remove(key);
+            assertEquals(i + 1, t.getTombstones());
+            assertEquals(i + 1, flaggedTombstones(t));
+        }
+        assertEquals(0, t.getCleanups());
+        assertFalse(t.delete(0));                   // a miss leaves the count alone
+        assertEquals(10, t.getTombstones());
+
+        int reused = 2 * 101 + 2;                   // its slot is now a tombstone on its own chain
+        assertTrue(t.insert(reused));
+        ref.add(reused);
+        assertEquals(9, t.getTombstones());
+        assertEquals(9, flaggedTombstones(t));
+
+        for (int i = 10; i < 12; i++) {             // the 11th tombstone triggers the purge
+            int key = i * 101 + (i % 5);
+            assertTrue(t.delete(key));
+            ref.remove(key);
+        }
+        assertEquals(1, t.getCleanups());
+        assertEquals(resizes, t.getResizes());      // in place: no reallocation
+        assertEquals(0, t.getTombstones());
+        assertEquals(0, flaggedTombstones(t));
+        assertSameKeys(ref, t);
+    }
+}
@@ -0,0 +1,113 @@
+package datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ProbeType#ROBIN_HOOD} deletes in {@link ProbingHashTable}: the rest
+ * of the run shifts back one slot, stopping at an empty slot or a key sitting
+ * at its home, and no tombstone is left behind.
+ *
+ * Keys are non‑negative under division ('i'), so a key's home is key mod m and
+ * the tests can work out every probe distance from the slot it ended up in.
+ * The pinned cases shift a run across slot m − 1 and stop at a key at home;
+ * the randomized run checks the table against {@link HashSet} and the
+ * distances against {@link ProbingHashTable#maxProbeLength()} and the Robin
+ * Hood invariant (a run's distances climb by at most one per slot).
+ */
+class RobinHoodDeleteTest {
+
+    /** How far the key in slot {@code i} sits from its home, or -1 for an empty slot. */
+    static int distance(ProbingHashTable t, int i) {
+        Integer key = t.slotKey(i);
+        if (key == null) return -1;
+        return Math.floorMod(i - key % t.capacity(), t.capacity());
+    }
+
+    @Test void deleteShiftsRunBackAcrossTheWrap() {
+        // homes 9, 9, 9, 10, 0 fill slots 9, 10, 0, 1, 2 at distances 0, 1, 2, 2, 2
+        ProbingHashTable t = new ProbingHashTable(11, ProbeType.ROBIN_HOOD, 'i');
+        for (int key : new int[]{9, 20, 31, 10, 0}) assertTrue(t.insert(key));
+        assertEquals(20, t.slotKey(10));
+        assertEquals(31, t.slotKey(0));
+        assertEquals(10, t.slotKey(1));
+        assertEquals(0,  t.slotKey(2));
+        assertEquals(2, t.maxProbeLength());
+
+        assertTrue(t.delete(20));                   // the hole sits at m − 1
+
+        assertEquals(9,  t.slotKey(9));
+        assertEquals(31, t.slotKey(10));
+        assertEquals(10, t.slotKey(0));
+        assertEquals(0,  t.slotKey(1));
+        assertNull(t.slotKey(2));
+        assertEquals(1, t.maxProbeLength());
+        assertEquals(0, t.getTombstones());
+        assertEquals(0, ProbingHashTableTest.flaggedTombstones(t));
+        assertNull(t.find(20));
+        for (int key : new int[]{9, 31, 10, 0}) assertNotNull(t.find(key), "lost key " + key);
+    }
+
+    @Test void deleteStopsAtKeyInItsHome() {
+        // 9 → slot 9, 20 (home 9) → slot 10, 0 sits at its home slot 0
+        ProbingHashTable t = new ProbingHashTable(11, ProbeType.ROBIN_HOOD, 'i');
+        for (int key : new int[]{9, 20, 0}) assertTrue(t.insert(key));
+
+        assertTrue(t.delete(9));
+
+        assertEquals(20, t.slotKey(9));
+        assertNull(t.slotKey(10));                  // 0 must not be pulled before its home
+        assertEquals(0, t.slotKey(0));
+        assertEquals(0, t.maxProbeLength());
+        assertNotNull(t.find(20));
+        assertNotNull(t.find(0));
+    }
+
+    @Test void randomRunKeepsDistancesAndMatchesHashSet() {
+        ProbingHashTable t   = new ProbingHashTable(7, ProbeType.ROBIN_HOOD, 'i');
+        Set<Integer>     ref = new HashSet<>();
+        SplittableRandom rnd = new SplittableRandom(4);
+        for (int op = 0; op < 40_000; op++) {
+            int key = rnd.nextInt(0, 1_500) * 8;    // multiples of 8 crowd a few homes while m is small
+            int pick = rnd.nextInt(100);
+            String at = "op " + op + " key " + key;
+            if (pick < 45) {
+                assertEquals(ref.add(key), t.insert(key), at);
+            } else if (pick < 90) {
+                assertEquals(ref.remove(key), t.delete(key), at);
+            } else {
+                assertEquals(ref.contains(key), t.find(key) != null, at);
+            }
+            assertEquals(0, t.getTombstones(), at);
+            if (op % 64 == 0) {
+                assertRobinHoodInvariant(t, at);
+                ProbingHashTableTest.assertSameKeys(ref, t);
+            }
+        }
+        assertRobinHoodInvariant(t, "end");
+        ProbingHashTableTest.assertSameKeys(ref, t);
+    }
+
+    /** Distances climb by at most one from slot to slot, and the longest matches {@code maxProbeLength()}. */
+    private static void assertRobinHoodInvariant(ProbingHashTable t, String at) {
+        int m = t.capacity(), max = 0;
+        for (int i = 0; i < m; i++) {
+            int d = distance(t, i);
+            if (d < 0) continue;
+            max = Math.max(max, d);
+            int before = distance(t, Math.floorMod(i - 1, m));
+            assertTrue(d == 0 || before >= d - 1, at + ": slot " + i + " at distance " + d
+                    + " follows distance " + before);
+        }
+        assertEquals(max, t.maxProbeLength(), at);
+        assertEquals(0, ProbingHashTableTest.flaggedTombstones(t), at);
+    }
+}